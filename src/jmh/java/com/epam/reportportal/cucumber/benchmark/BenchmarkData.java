@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.benchmark;
+
+import gherkin.formatter.Argument;
+import gherkin.formatter.model.*;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Gherkin model objects used by benchmarks
+ */
+public class BenchmarkData {
+	public static final String FEATURE_URI = "src/test/resources/features/Benchmark.feature";
+
+	private static final Method STEP_METHOD;
+
+	static {
+		try {
+			STEP_METHOD = BellyStepdefs.class.getMethod("I_have_cukes_in_my_belly", int.class);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Step definitions the benchmark match is bound to
+	 */
+	public static class BellyStepdefs {
+		@SuppressWarnings("unused")
+		public void I_have_cukes_in_my_belly(int cukes) {
+		}
+	}
+
+	/**
+	 * Has the same fields as Cucumber's JavaStepDefinition, which the reporter reads by reflection
+	 */
+	@SuppressWarnings("unused")
+	private static class JavaStepDefinition {
+		private final Method method;
+
+		private JavaStepDefinition(@Nonnull Method stepMethod) {
+			method = stepMethod;
+		}
+
+		public String getLocation(boolean detail) {
+			return method.getDeclaringClass().getName() + "." + method.getName() + "(int)";
+		}
+	}
+
+	/**
+	 * Has the same fields as Cucumber's StepDefinitionMatch, so the reporter resolves step definition metadata, parameters
+	 * and Test Case ID as for a real step
+	 */
+	@SuppressWarnings("unused")
+	private static class StepDefinitionMatch extends Match {
+		private static final long serialVersionUID = 1L;
+
+		private final transient Object stepDefinition;
+
+		private StepDefinitionMatch(@Nonnull List<Argument> arguments, @Nonnull JavaStepDefinition definition) {
+			super(arguments, definition.getLocation(false));
+			stepDefinition = definition;
+		}
+	}
+
+	private BenchmarkData() {
+		throw new AssertionError("No instances should exist for the class!");
+	}
+
+	@Nonnull
+	public static Feature feature() {
+		return new Feature(
+				Collections.emptyList(),
+				Arrays.asList(new Tag("@benchmark", 1), new Tag("@team:agent", 1)),
+				"Feature",
+				"Reporter hot path",
+				"",
+				2,
+				"reporter-hot-path"
+		);
+	}
+
+	@Nonnull
+	public static Scenario scenario() {
+		return new Scenario(
+				Collections.emptyList(),
+				Collections.singletonList(new Tag("@regression", 4)),
+				"Scenario",
+				"A scenario with steps",
+				"",
+				5,
+				"reporter-hot-path;a-scenario-with-steps"
+		);
+	}
+
+	@Nonnull
+	public static Step step() {
+		return new Step(Collections.emptyList(), "Given ", "I have 42 cukes in my belly", 6, null, null);
+	}
+
+	@Nonnull
+	public static Match match() {
+		return new StepDefinitionMatch(Collections.singletonList(new Argument(7, "42")), new JavaStepDefinition(STEP_METHOD));
+	}
+
+	@Nonnull
+	public static Result passed() {
+		return new Result(Result.PASSED, 1000L, null, null);
+	}
+
+	@Nonnull
+	public static Step dataTableStep(int rowNumber, int columnNumber) {
+		List<DataTableRow> rows = new ArrayList<>(rowNumber + 1);
+		for (int i = 0; i <= rowNumber; i++) {
+			List<String> cells = new ArrayList<>(columnNumber);
+			for (int j = 0; j < columnNumber; j++) {
+				cells.add(i == 0 ? "column" + j : "value_" + i + "_" + j);
+			}
+			rows.add(new DataTableRow(Collections.emptyList(), cells, 7 + i));
+		}
+		return new Step(Collections.emptyList(), "Given ", "I have a table", 6, rows, null);
+	}
+
+	@Nonnull
+	public static byte[] png(int size) {
+		byte[] data = new byte[size];
+		byte[] header = new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n' };
+		System.arraycopy(header, 0, data, 0, Math.min(size, header.length));
+		return data;
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.benchmark;
+
+import com.epam.reportportal.cucumber.ScenarioReporter;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.InMemoryLaunch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import gherkin.formatter.model.Match;
+import gherkin.formatter.model.Step;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * {@link ScenarioReporter} bound to an {@link InMemoryLaunch}, with protected hot path methods exposed for benchmarks
+ */
+public class BenchmarkReporter extends ScenarioReporter {
+
+	@Override
+	protected ReportPortal buildReportPortal() {
+		ListenerParameters parameters = new ListenerParameters();
+		parameters.setEnable(true);
+		parameters.setLaunchName("Benchmark launch");
+		return InMemoryLaunch.reportPortal(parameters);
+	}
+
+	@Nonnull
+	public InMemoryLaunch getLaunch() {
+		return (InMemoryLaunch) launch.get();
+	}
+
+	@Nonnull
+	public List<ParameterResource> parameters(@Nonnull Step step, @Nullable String codeRef, @Nonnull Match match) {
+		return getParameters(step, codeRef, match);
+	}
+
+	@Nonnull
+	public String multilineArgument(@Nonnull Step step) {
+		return buildMultilineArgument(step);
+	}
+}
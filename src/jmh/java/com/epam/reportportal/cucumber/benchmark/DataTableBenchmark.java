@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.benchmark;
+
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import gherkin.formatter.model.Match;
+import gherkin.formatter.model.Step;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Step parameters and multiline argument rendering for steps with data tables of different sizes
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DataTableBenchmark {
+	private static final String CODE_REF = BenchmarkData.class.getName() + ".dataTableStep";
+
+	@Param({ "10", "1000", "5000" })
+	public int rows;
+
+	@Param({ "5" })
+	public int columns;
+
+	private final Match match = BenchmarkData.match();
+	private final BenchmarkReporter reporter = new BenchmarkReporter();
+
+	private Step step;
+
+	@Setup(Level.Trial)
+	public void createTable() {
+		step = BenchmarkData.dataTableStep(rows, columns);
+	}
+
+	@Benchmark
+	public List<ParameterResource> getParameters() {
+		return reporter.parameters(step, CODE_REF, match);
+	}
+
+	@Benchmark
+	public String buildMultilineArgument() {
+		return reporter.multilineArgument(step);
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.benchmark;
+
+import com.epam.reportportal.cucumber.util.StepDefinitionMetadata;
+import gherkin.formatter.model.Match;
+import gherkin.formatter.model.Result;
+import gherkin.formatter.model.Scenario;
+import gherkin.formatter.model.Step;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-event overhead of the reporter: step start and finish, text logs and attachments
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ReporterBenchmark {
+
+	private final Scenario scenario = BenchmarkData.scenario();
+	private final Step step = BenchmarkData.step();
+	private final Match match = BenchmarkData.match();
+	private final Result result = BenchmarkData.passed();
+	private final byte[] attachment = BenchmarkData.png(64 * 1024);
+
+	private BenchmarkReporter reporter;
+
+	@Setup(Level.Trial)
+	public void startScenario() {
+		reporter = new BenchmarkReporter();
+		reporter.uri(BenchmarkData.FEATURE_URI);
+		reporter.feature(BenchmarkData.feature());
+		reporter.startOfScenarioLifeCycle(scenario);
+		reporter.scenario(scenario);
+		// keep one step in the queue, so the reporter does not start after hooks on each step
+		reporter.step(step);
+
+		StepDefinitionMetadata metadata = StepDefinitionMetadata.of(match);
+		if (metadata == null || metadata.getMethod() == null) {
+			throw new IllegalStateException("The match is not bound to a step method, step benchmarks would skip its metadata");
+		}
+
+		long logs = reporter.getLaunch().getLogs();
+		reporter.write("A message to check the logging context");
+		if (reporter.getLaunch().getLogs() != logs + 1) {
+			throw new IllegalStateException("Logs do not reach the launch, log benchmarks would measure nothing");
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void finishScenario() {
+		reporter.endOfScenarioLifeCycle(scenario);
+		reporter.eof();
+		reporter.close();
+	}
+
+	@Benchmark
+	public void stepLifecycle() {
+		reporter.step(step);
+		reporter.match(match);
+		reporter.result(result);
+	}
+
+	@Benchmark
+	public void write() {
+		reporter.write("A message from a step definition");
+	}
+
+	@Benchmark
+	public void typedEmbedding() {
+		reporter.embedding("image/png", attachment);
+	}
+
+	@Benchmark
+	public void untypedEmbedding() {
+		reporter.embedding(null, attachment);
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A {@link Launch} which does not send anything anywhere and only counts requests, to measure agent overhead without
+ * network and client pipeline costs.
+ * <p>
+ * Like the real launch it binds a {@link LoggingContext} to each started item, until the item is finished, so logs
+ * emitted with {@link ReportPortal#emitLog} reach the launch. Log requests are built, but not sent.
+ * <p>
+ * The class is located in the client's package, since {@link Launch} and {@link ReportPortal} constructors are
+ * package-private.
+ */
+public class InMemoryLaunch extends Launch {
+	private static final Maybe<OperationCompletionRS> FINISH_RESPONSE = Maybe.just(new OperationCompletionRS());
+
+	private final Maybe<String> launchId = Maybe.just("launch");
+	private final AtomicLong itemCounter = new AtomicLong();
+	private final AtomicLong finishCounter = new AtomicLong();
+	private final AtomicLong logCounter = new AtomicLong();
+
+	public InMemoryLaunch(@Nonnull ListenerParameters parameters) {
+		super(NOOP_LAUNCH.getClient(), parameters, StepReporter.NOOP_STEP_REPORTER);
+	}
+
+	/**
+	 * Create a {@link ReportPortal} instance which creates {@link InMemoryLaunch} launches
+	 *
+	 * @param parameters listener parameters
+	 * @return ReportPortal instance
+	 */
+	@Nonnull
+	public static ReportPortal reportPortal(@Nonnull ListenerParameters parameters) {
+		return new ReportPortal(null, null, parameters, null) {
+			@Override
+			public Launch newLaunch(@Nonnull StartLaunchRQ rq) {
+				return new InMemoryLaunch(parameters);
+			}
+		};
+	}
+
+	@Nonnull
+	private Maybe<String> nextItem() {
+		return Maybe.just(String.valueOf(itemCounter.incrementAndGet()));
+	}
+
+	@Nonnull
+	private Maybe<String> startItem() {
+		Maybe<String> itemId = nextItem();
+		LoggingContext.init(itemId);
+		return itemId;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> start() {
+		return launchId;
+	}
+
+	@Override
+	public void finish(FinishExecutionRQ rq) {
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> createVirtualItem() {
+		return nextItem();
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startTestItem(StartTestItemRQ rq) {
+		return startItem();
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startTestItem(Maybe<String> parentId, StartTestItemRQ rq) {
+		return startItem();
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startTestItem(Maybe<String> parentId, Maybe<String> retryOf, StartTestItemRQ rq) {
+		return startItem();
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startVirtualTestItem(Maybe<String> virtualItem, StartTestItemRQ rq) {
+		return virtualItem;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startVirtualTestItem(Maybe<String> parentId, Maybe<String> virtualItem, StartTestItemRQ rq) {
+		return virtualItem;
+	}
+
+	@Override
+	public void log(@Nonnull SaveLogRQ rq) {
+		logCounter.incrementAndGet();
+	}
+
+	@Override
+	public void log(@Nonnull Function<String, SaveLogRQ> logSupplier) {
+		logSupplier.apply(null);
+		logCounter.incrementAndGet();
+	}
+
+	@Override
+	public void log(@Nonnull Maybe<String> itemId, @Nonnull Function<String, SaveLogRQ> logSupplier) {
+		logSupplier.apply(itemId.blockingGet());
+		logCounter.incrementAndGet();
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<OperationCompletionRS> finishTestItem(Maybe<String> itemId, FinishTestItemRQ rq) {
+		finishCounter.incrementAndGet();
+		LoggingContext.dispose();
+		return FINISH_RESPONSE;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> getLaunch() {
+		return launchId;
+	}
+
+	public long getStartedItems() {
+		return itemCounter.get();
+	}
+
+	public long getFinishedItems() {
+		return finishCounter.get();
+	}
+
+	public long getLogs() {
+		return logCounter.get();
+	}
+}
@@ -15,17 +15,31 @@
  */
 package com.epam.reportportal.cucumber;
 
-import com.epam.reportportal.annotations.TestCaseId;
 import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.cucumber.util.AttachmentUtils;
+import com.epam.reportportal.cucumber.util.DataTableRenderer;
+import com.epam.reportportal.cucumber.util.InFlightWindow;
+import com.epam.reportportal.cucumber.util.ItemDataStore;
+import com.epam.reportportal.cucumber.util.JournalUploader;
+import com.epam.reportportal.cucumber.util.LogDeduplicator;
+import com.epam.reportportal.cucumber.util.LogPipeline;
+import com.epam.reportportal.cucumber.util.MimeTypeSniffer;
+import com.epam.reportportal.cucumber.util.ReportJournal;
+import com.epam.reportportal.cucumber.util.ReporterMetrics;
+import com.epam.reportportal.cucumber.util.StackTraceRenderer;
+import com.epam.reportportal.cucumber.util.StepDefinitionMetadata;
+import com.epam.reportportal.cucumber.util.StepParameters;
+import com.epam.reportportal.cucumber.util.TagAttributes;
+import com.epam.reportportal.cucumber.util.TestCaseIdCache;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.message.ReportPortalMessage;
+import com.epam.reportportal.message.TypeAwareByteSource;
 import com.epam.reportportal.service.Launch;
 import com.epam.reportportal.service.ReportPortal;
 import com.epam.reportportal.service.item.TestCaseIdEntry;
 import com.epam.reportportal.service.tree.TestItemTree;
 import com.epam.reportportal.utils.*;
-import com.epam.reportportal.utils.files.ByteSource;
 import com.epam.reportportal.utils.formatting.MarkdownUtils;
 import com.epam.reportportal.utils.http.ContentType;
 import com.epam.reportportal.utils.properties.SystemAttributesExtractor;
@@ -35,35 +49,32 @@ import com.epam.ta.reportportal.ws.model.ParameterResource;
 import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
 import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import gherkin.formatter.Argument;
 import gherkin.formatter.Formatter;
 import gherkin.formatter.Reporter;
 import gherkin.formatter.model.*;
 import io.reactivex.Maybe;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.Pair;
-import org.apache.commons.text.StringEscapeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Clock;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import static com.epam.reportportal.cucumber.Utils.*;
 import static com.epam.reportportal.cucumber.util.ItemTreeUtils.createKey;
-import static com.epam.reportportal.cucumber.util.ItemTreeUtils.retrieveLeaf;
-import static com.epam.reportportal.utils.formatting.ExceptionUtils.getStackTrace;
-import static com.epam.reportportal.utils.formatting.MarkdownUtils.formatDataTable;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -80,9 +91,6 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(AbstractReporter.class);
 	private static final String AGENT_PROPERTIES_FILE = "agent.properties";
-	private static final String STEP_DEFINITION_FIELD_NAME = "stepDefinition";
-	private static final String GET_LOCATION_METHOD_NAME = "getLocation";
-	private static final String METHOD_OPENING_BRACKET = "(";
 	private static final String DOCSTRING_DECORATOR = "\n\"\"\"\n";
 	private static final String ERROR_FORMAT = "Error:\n%s";
 
@@ -96,30 +104,105 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	protected final ThreadLocal<RunningContext.ScenarioContext> currentScenarioContext = new ThreadLocal<>();
 
 	/**
-	 * This map uses to record the description of the scenario and the step to append the error to the description.
+	 * A finished scenario context per thread, which is reset and reused by the next scenario of the thread
 	 */
-	private final Map<Maybe<String>, String> descriptionsMap = new ConcurrentHashMap<>();
+	private final ThreadLocal<RunningContext.ScenarioContext> spareScenarioContext = new ThreadLocal<>();
+
+	/**
+	 * All running features and scenarios, the thread-local contexts above are bindings to the registry entries
+	 */
+	private final ContextRegistry contextRegistry = new ContextRegistry();
+
+	/**
+	 * This store uses to record the description and the error of the scenario and the step to append the error to the
+	 * description. Item data is removed as soon as the item is finished. See {@link #buildItemDataStore()}.
+	 */
+	private final MemoizingSupplier<ItemDataStore> itemDataStore = new MemoizingSupplier<>(this::buildItemDataStore);
+
+	/**
+	 * Asynchronous log pipeline, disabled (null) by default, see {@link #buildLogPipeline()}
+	 */
+	private final MemoizingSupplier<LogPipeline> logPipeline = new MemoizingSupplier<>(this::buildLogPipeline);
+
+	/**
+	 * Repeated log collapsing, disabled (null) by default, see {@link #buildLogDeduplicator()}
+	 */
+	private final MemoizingSupplier<LogDeduplicator> logDeduplicator = new MemoizingSupplier<>(this::buildLogDeduplicator);
+
+	/**
+	 * Bounded window of item requests in flight, disabled (null) by default, see {@link #buildInFlightWindow()}
+	 */
+	private final MemoizingSupplier<InFlightWindow> inFlightWindow = new MemoizingSupplier<>(this::buildInFlightWindow);
+
 	/**
-	 * This map uses to record errors to append to the description.
+	 * Offline reporting journal, disabled (null) by default, see {@link #getJournalFile()}
 	 */
-	private final Map<Maybe<String>, Throwable> errorMap = new ConcurrentHashMap<>();
+	private final MemoizingSupplier<ReportJournal> journal = new MemoizingSupplier<>(this::openJournal);
 
-	private AtomicBoolean finished = new AtomicBoolean(false);
+	private final MimeTypeSniffer mimeTypeSniffer = new MimeTypeSniffer();
 
+	/**
+	 * Data table renderer with its per-thread cache of the last rendered table, see {@link #buildDataTableRenderer()}
+	 */
+	private final MemoizingSupplier<DataTableRenderer> dataTableRenderer = new MemoizingSupplier<>(this::buildDataTableRenderer);
+
+	/**
+	 * Stack trace renderer with its per-thread cache of the last rendered error, see {@link #buildStackTraceRenderer()}
+	 */
+	private final MemoizingSupplier<StackTraceRenderer> stackTraceRenderer = new MemoizingSupplier<>(this::buildStackTraceRenderer);
+
+	/**
+	 * Test Case IDs by code reference and arguments, see {@link #buildTestCaseIdCache()}
+	 */
+	private final MemoizingSupplier<TestCaseIdCache> testCaseIdCache = new MemoizingSupplier<>(this::buildTestCaseIdCache);
+
+	/**
+	 * Overhead metrics, disabled (null) by default, see {@link #buildReporterMetrics()}
+	 */
+	private final MemoizingSupplier<ReporterMetrics> metrics = new MemoizingSupplier<>(this::buildReporterMetrics);
+
+	/**
+	 * Launch lifecycle state, moves only forward
+	 */
+	private enum LaunchState {
+		NEW, STARTED, FINISHED
+	}
+
+	private final AtomicReference<LaunchState> launchState = new AtomicReference<>(LaunchState.NEW);
+	private final Object launchStartLock = new Object();
+
+	/**
+	 * Time source of the reporter, see {@link #buildClock()}
+	 */
+	private final MemoizingSupplier<Clock> clock = new MemoizingSupplier<>(this::buildClock);
+	private final AtomicLong lastTime = new AtomicLong();
+
+	private final MemoizingSupplier<ReportPortal> reportPortal = new MemoizingSupplier<>(this::buildReportPortal);
+
+	/**
+	 * The launch of the reporter. If launch joining is enabled ({@code rp.client.join}, which is the client default),
+	 * reporters of all forks of a build share one launch: the first fork which starts its launch creates it, the other
+	 * ones join it, and the creating fork finishes it after all the other ones are finished, see
+	 * {@link #isLaunchJoined()}.
+	 */
 	protected final Supplier<Launch> launch = new MemoizingSupplier<>(new Supplier<Launch>() {
 
-		/* should not be lazy */
-		private final Date startTime = Calendar.getInstance().getTime();
+		/*
+		 * should not be lazy, but the clock of a subclass is not built yet, so the launch start time is calculated on
+		 * launch start from the reporter clock and the time passed since the reporter creation
+		 */
+		private final long creationNanoTime = System.nanoTime();
 
 		@Override
 		public Launch get() {
-			final ReportPortal reportPortal = buildReportPortal();
+			final ReportPortal reportPortal = AbstractReporter.this.reportPortal.get();
 
 			ListenerParameters parameters = reportPortal.getParameters();
 
 			StartLaunchRQ rq = new StartLaunchRQ();
 			rq.setName(parameters.getLaunchName());
-			rq.setStartTime(startTime);
+			long sinceCreation = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - creationNanoTime);
+			rq.setStartTime(new Date(getCurrentTimeMillis() - sinceCreation));
 			rq.setMode(parameters.getLaunchRunningMode());
 			HashSet<ItemAttributesRQ> attributes = new HashSet<>(parameters.getAttributes());
 			rq.setAttributes(attributes);
@@ -137,9 +220,8 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 			skippedIssueAttr.setSystem(true);
 			attributes.add(skippedIssueAttr);
 
-			Launch launch = reportPortal.newLaunch(rq);
-			finished = new AtomicBoolean(false);
-			return launch;
+			ofNullable(journal.get()).ifPresent(j -> j.startLaunch(rq));
+			return reportPortal.newLaunch(rq);
 		}
 	});
 
@@ -152,6 +234,44 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 		REPORT_PORTAL = reportPortal;
 	}
 
+	/**
+	 * Extension point to customize the time source of the reporter, e.g. to use a fixed clock in tests
+	 *
+	 * @return clock
+	 */
+	@Nonnull
+	protected Clock buildClock() {
+		return Clock.systemUTC();
+	}
+
+	/**
+	 * Returns current time in milliseconds. The time never goes backwards within a reporter instance, even if the
+	 * system clock does, so a child item never starts before its parent.
+	 *
+	 * @return current time in milliseconds
+	 */
+	protected long getCurrentTimeMillis() {
+		long now = clock.get().millis();
+		long last = lastTime.get();
+		while (now > last) {
+			if (lastTime.compareAndSet(last, now)) {
+				return now;
+			}
+			last = lastTime.get();
+		}
+		return last;
+	}
+
+	/**
+	 * Returns current time for requests, see {@link #getCurrentTimeMillis()}
+	 *
+	 * @return current time
+	 */
+	@Nonnull
+	protected Date getCurrentTime() {
+		return new Date(getCurrentTimeMillis());
+	}
+
 	/**
 	 * Extension point to customize ReportPortal instance
 	 *
@@ -161,22 +281,422 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 		return ReportPortal.builder().build();
 	}
 
+	/**
+	 * Returns true if the launch is shared between forks of the build through the client launch lock
+	 * ({@code rp.client.join}, {@code rp.client.join.mode} properties). A fork which runs no features does not take part
+	 * in a joined launch, otherwise it could obtain the lock first and become the primary instance of the launch, while
+	 * having nothing to report.
+	 *
+	 * @return true if the launch is joined
+	 */
+	protected boolean isLaunchJoined() {
+		ListenerParameters parameters = reportPortal.get().getParameters();
+		return BooleanUtils.isTrue(parameters.getEnable()) && parameters.getClientJoin();
+	}
+
+	/**
+	 * Extension point to customize the store of item descriptions and errors, e.g. its capacity and eviction policy
+	 *
+	 * @return item data store
+	 */
+	@Nonnull
+	protected ItemDataStore buildItemDataStore() {
+		return new ItemDataStore();
+	}
+
+	/**
+	 * Returns the store of item descriptions and errors, can be used to monitor its size and eviction count
+	 *
+	 * @return item data store
+	 */
+	@Nonnull
+	protected ItemDataStore getItemDataStore() {
+		return itemDataStore.get();
+	}
+
+	/**
+	 * Extension point to enable overhead metrics: time spent inside formatter callbacks and number of requests built. The
+	 * metrics are logged on launch finish, see also {@link #getMetricsFile()}.
+	 *
+	 * @return metrics instance or null to disable metrics
+	 */
+	@Nullable
+	protected ReporterMetrics buildReporterMetrics() {
+		return null;
+	}
+
+	/**
+	 * Returns overhead metrics of the reporter
+	 *
+	 * @return metrics or null if metrics are disabled
+	 */
+	@Nullable
+	protected ReporterMetrics getMetrics() {
+		return metrics.get();
+	}
+
+	/**
+	 * Extension point to save overhead metrics to a JSON file on launch finish
+	 *
+	 * @return the file or null to only log the metrics
+	 */
+	@Nullable
+	protected File getMetricsFile() {
+		return null;
+	}
+
+	private long startTiming() {
+		return metrics.get() == null ? 0 : System.nanoTime();
+	}
+
+	private void stopTiming(@Nonnull ReporterMetrics.Event event, long startTime) {
+		ReporterMetrics myMetrics = metrics.get();
+		if (myMetrics != null) {
+			myMetrics.record(event, startTime);
+		}
+	}
+
+	private void countRequest(@Nullable String type) {
+		ReporterMetrics myMetrics = metrics.get();
+		if (myMetrics != null && type != null) {
+			myMetrics.countRequest(type);
+		}
+	}
+
+	private void reportMetrics() {
+		ReporterMetrics myMetrics = metrics.get();
+		if (myMetrics == null) {
+			return;
+		}
+		LOGGER.info(myMetrics.summary());
+		File file = getMetricsFile();
+		if (file != null) {
+			try {
+				myMetrics.writeJson(file);
+			} catch (IOException e) {
+				LOGGER.warn("Unable to save agent metrics to " + file.getPath(), e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the registry of running features and scenarios
+	 *
+	 * @return context registry
+	 */
+	@Nonnull
+	protected ContextRegistry getContextRegistry() {
+		return contextRegistry;
+	}
+
+	/**
+	 * Bind a running feature to the current thread. Should be called by runners which continue a feature on a thread
+	 * different from the one where the feature was started. The former thread should call {@link #unbindFeature()}.
+	 *
+	 * @param uri feature URI
+	 * @return true if the feature is running and was bound, false otherwise
+	 */
+	protected boolean bindFeature(@Nonnull String uri) {
+		RunningContext.FeatureContext context = contextRegistry.getFeature(uri);
+		if (context == null) {
+			return false;
+		}
+		currentFeatureContext.set(context);
+		return true;
+	}
+
+	/**
+	 * Bind a running scenario and its feature to the current thread. Should be called by runners which continue a scenario
+	 * on a thread different from the one where the scenario was started. The former thread should call
+	 * {@link #unbindScenario()}, otherwise its binding is dropped the next time the thread reports a scenario event.
+	 *
+	 * @param uri  feature URI
+	 * @param line scenario line
+	 * @return true if the scenario is running and was bound, false otherwise
+	 */
+	protected boolean bindScenario(@Nonnull String uri, int line) {
+		RunningContext.ScenarioContext context = contextRegistry.getScenario(uri, line);
+		if (context == null || !bindFeature(uri)) {
+			return false;
+		}
+		context.bindTo(Thread.currentThread());
+		currentScenarioContext.set(context);
+		return true;
+	}
+
+	/**
+	 * Remove the binding of a feature from the current thread, the feature keeps running. Should be called by runners on
+	 * the thread which passes the feature to another one.
+	 */
+	protected void unbindFeature() {
+		currentFeatureContext.remove();
+	}
+
+	/**
+	 * Remove the binding of a scenario and its feature from the current thread, the scenario keeps running. Should be
+	 * called by runners on the thread which passes the scenario to another one.
+	 */
+	protected void unbindScenario() {
+		currentScenarioContext.remove();
+		unbindFeature();
+	}
+
+	/**
+	 * Extension point to enable asynchronous log emission. By default logs are emitted synchronously on the Cucumber thread.
+	 * To enable the pipeline return its instance with {@link #emitLogs(List)} as the consumer, e.g.:
+	 * <pre>{@code
+	 * return new LogPipeline(16384, 256, LogPipeline.OverflowPolicy.DROP_OLDEST, 10, this::emitLogs);
+	 * }</pre>
+	 *
+	 * @return log pipeline or null to emit logs synchronously
+	 */
+	@Nullable
+	protected LogPipeline buildLogPipeline() {
+		return null;
+	}
+
+	/**
+	 * Returns the asynchronous log pipeline, can be used to monitor its queue size and dropped log count
+	 *
+	 * @return log pipeline or null if logs are emitted synchronously
+	 */
+	@Nullable
+	protected LogPipeline getLogPipeline() {
+		return logPipeline.get();
+	}
+
+	/**
+	 * Send a batch of log entries taken from the log pipeline to Report Portal
+	 *
+	 * @param entries log entries
+	 */
+	protected void emitLogs(@Nonnull List<LogPipeline.LogEntry> entries) {
+		Launch myLaunch = launch.get();
+		for (LogPipeline.LogEntry entry : entries) {
+			myLaunch.log(entry.getItemId(), entry::toSaveLogRq);
+		}
+	}
+
+	/**
+	 * Extension point to enable collapsing of repeated item logs, e.g. the same hook location or error message logged
+	 * many times. To enable it return an instance with {@link #emitLog(LogPipeline.LogEntry)} as the consumer, e.g.:
+	 * <pre>{@code
+	 * return new LogDeduplicator(this::emitLog);
+	 * }</pre>
+	 *
+	 * @return log deduplicator or null to send every log entry as is
+	 */
+	@Nullable
+	protected LogDeduplicator buildLogDeduplicator() {
+		return null;
+	}
+
+	/**
+	 * Returns the log deduplicator, can be used to monitor collapsed and interned log counts
+	 *
+	 * @return log deduplicator or null if logs are not deduplicated
+	 */
+	@Nullable
+	protected LogDeduplicator getLogDeduplicator() {
+		return logDeduplicator.get();
+	}
+
+	/**
+	 * Extension point to limit the number of item requests in flight, so a slow or unavailable Report Portal does not
+	 * exhaust the heap with queued requests. Test threads wait while the window is full, e.g.:
+	 * <pre>{@code
+	 * return new InFlightWindow(1000, InFlightWindow.Strategy.SHED_LOGS);
+	 * }</pre>
+	 * The window is not applied to the offline reporting journal, which is the way to keep everything on disk while
+	 * Report Portal is unavailable, see {@link #getJournalFile()}.
+	 *
+	 * @return in-flight window or null to send requests without a limit
+	 */
+	@Nullable
+	protected InFlightWindow buildInFlightWindow() {
+		return null;
+	}
+
+	/**
+	 * Returns the in-flight window, can be used to monitor the number of requests in flight, blocked and shed
+	 *
+	 * @return in-flight window or null if the number of requests in flight is not limited
+	 */
+	@Nullable
+	protected InFlightWindow getInFlightWindow() {
+		return inFlightWindow.get();
+	}
+
+	private boolean shedLog() {
+		InFlightWindow window = inFlightWindow.get();
+		return window != null && window.shedLog();
+	}
+
+	private void reportInFlightWindow() {
+		if (!inFlightWindow.isInitialized()) {
+			return;
+		}
+		InFlightWindow window = inFlightWindow.get();
+		if (window == null || (window.getBlockedCount() == 0 && window.getShedLogCount() == 0)) {
+			return;
+		}
+		LOGGER.warn(format(
+				"Report Portal requests were throttled: %d item requests waited %d ms in total, %d were sent above the limit, "
+						+ "%d logs were dropped, maximum %d item requests were in flight",
+				window.getBlockedCount(),
+				TimeUnit.NANOSECONDS.toMillis(window.getBlockedTime()),
+				window.getOverflowCount(),
+				window.getShedLogCount(),
+				window.getMaxInFlightCount()
+		));
+	}
+
+	/**
+	 * Send a captured log entry to Report Portal, through the journal or the log pipeline if they are enabled
+	 *
+	 * @param entry log entry
+	 */
+	protected void emitLog(@Nonnull LogPipeline.LogEntry entry) {
+		ReportJournal myJournal = journal.get();
+		if (myJournal != null) {
+			myJournal.log(entry.getItemId(), buildLogRq(entry.getMessage(), entry.getLevel(), new Date(entry.getTime())));
+			return;
+		}
+		if (shedLog()) {
+			return;
+		}
+		LogPipeline pipeline = logPipeline.get();
+		if (pipeline != null) {
+			pipeline.emit(entry);
+			return;
+		}
+		launch.get().log(entry.getItemId(), entry::toSaveLogRq);
+	}
+
 	/**
 	 * Finish RP launch
 	 */
 	protected void afterLaunch() {
 		FinishExecutionRQ finishLaunchRq = new FinishExecutionRQ();
-		finishLaunchRq.setEndTime(Calendar.getInstance().getTime());
+		finishLaunchRq.setEndTime(getCurrentTime());
+		ReportJournal myJournal = journal.get();
+		if (myJournal != null) {
+			myJournal.finishLaunch(finishLaunchRq);
+			return;
+		}
 		launch.get().finish(finishLaunchRq);
 	}
 
+	/**
+	 * Extension point to enable offline reporting: all reporting events are written to the given journal file instead
+	 * of being sent to Report Portal. The journal is uploaded on {@link #close()}, unless
+	 * {@link #isJournalUploadOnClose()} is overridden, in this case it can be uploaded later with
+	 * {@link JournalUploader}. Callback reporting is not supported in this mode, since items have no Report Portal IDs
+	 * until the upload.
+	 * <p>
+	 * Only the reporter's own logs are recorded: step output, errors and attachments. Logs which go through the client's
+	 * logging context, i.e. {@code ReportPortal.emitLog} calls from step code and logging framework appenders, need a
+	 * launch item and are dropped in this mode.
+	 * <p>
+	 * If the journal can't be written the run goes on, the journal keeps the events recorded before the error.
+	 *
+	 * @return journal file or null to report directly
+	 */
+	@Nullable
+	protected File getJournalFile() {
+		return null;
+	}
+
+	/**
+	 * Extension point to keep the offline reporting journal on disk instead of uploading it on {@link #close()}
+	 *
+	 * @return true to upload the journal when the reporter is closed
+	 */
+	protected boolean isJournalUploadOnClose() {
+		return true;
+	}
+
+	/**
+	 * Extension point to customize the number of independent item subtrees (usually features) uploaded concurrently from
+	 * the offline reporting journal
+	 *
+	 * @return upload parallelism
+	 */
+	protected int getJournalUploadParallelism() {
+		return JournalUploader.DEFAULT_PARALLELISM;
+	}
+
+	@Nullable
+	private ReportJournal openJournal() {
+		File file = getJournalFile();
+		if (file == null) {
+			return null;
+		}
+		try {
+			ReportJournal myJournal = ReportJournal.create(file);
+			LOGGER.warn("Reporting to the journal " + file + ", logs emitted from step code and logging appenders are not recorded");
+			return myJournal;
+		} catch (IOException e) {
+			LOGGER.warn("Unable to create reporting journal, reporting directly", e);
+			return null;
+		}
+	}
+
+	private void closeJournal() {
+		if (!journal.isInitialized()) {
+			return;
+		}
+		ReportJournal myJournal = journal.get();
+		if (myJournal == null) {
+			return;
+		}
+		try {
+			myJournal.close();
+			if (myJournal.isFailed()) {
+				LOGGER.warn("The reporting journal " + myJournal.getFile() + " is incomplete, it has only events recorded before a write error");
+			}
+			if (isJournalUploadOnClose()) {
+				Launch myLaunch = launch.get();
+				new JournalUploader(rq -> myLaunch, getJournalUploadParallelism()).upload(myJournal.getFile());
+			}
+		} catch (IOException e) {
+			LOGGER.error("Unable to upload reporting journal " + myJournal.getFile(), e);
+		}
+	}
+
+	/**
+	 * Start a test item, or record its start to the offline journal if it's enabled
+	 *
+	 * @param parentId parent item id or null for a root item
+	 * @param rq       item start request
+	 * @return item id
+	 */
+	@Nonnull
+	protected Maybe<String> startTestItem(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		ReportJournal myJournal = journal.get();
+		if (myJournal != null) {
+			return myJournal.startItem(parentId, rq);
+		}
+		Launch myLaunch = launch.get();
+		InFlightWindow window = inFlightWindow.get();
+		if (window != null) {
+			return window.send(() -> parentId == null ? myLaunch.startTestItem(rq) : myLaunch.startTestItem(parentId, rq));
+		}
+		return parentId == null ? myLaunch.startTestItem(rq) : myLaunch.startTestItem(parentId, rq);
+	}
+
 	private void addToTree(RunningContext.FeatureContext featureContext, RunningContext.ScenarioContext scenarioContext) {
-		retrieveLeaf(featureContext.getUri(), ITEM_TREE).ifPresent(suiteLeaf -> suiteLeaf.getChildItems()
-				.put(createKey(scenarioContext.getLine()), TestItemTree.createTestItemLeaf(scenarioContext.getId())));
+		ofNullable(featureContext.getItemLeaf()).ifPresent(suiteLeaf -> {
+			TestItemTree.TestItemLeaf scenarioLeaf = TestItemTree.createTestItemLeaf(scenarioContext.getId());
+			scenarioContext.setItemLeaf(scenarioLeaf);
+			suiteLeaf.getChildItems().put(createKey(scenarioContext.getLine()), scenarioLeaf);
+		});
 	}
 
 	private void addToTree(RunningContext.FeatureContext context) {
-		ITEM_TREE.getTestItems().put(createKey(context.getUri()), TestItemTree.createTestItemLeaf(context.getId()));
+		TestItemTree.TestItemLeaf leaf = TestItemTree.createTestItemLeaf(context.getId());
+		context.setItemLeaf(leaf);
+		ITEM_TREE.getTestItems().put(createKey(context.getUri()), leaf);
 	}
 
 	/**
@@ -206,7 +726,7 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 		rq.setDescription(description);
 		rq.setCodeRef(codeRef);
 		rq.setAttributes(extractAttributes(scenario.getTags()));
-		rq.setStartTime(Calendar.getInstance().getTime());
+		rq.setStartTime(getCurrentTime());
 		String type = getScenarioTestItemType();
 		rq.setType(type);
 		if ("STEP".equals(type)) {
@@ -215,10 +735,42 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 		return rq;
 	}
 
-	private RunningContext.ScenarioContext getCurrentScenarioContext() {
+	/**
+	 * Returns the scenario context bound to the current thread. A binding left by a scenario which was moved to another
+	 * thread with {@link #bindScenario(String, int)} is dropped.
+	 *
+	 * @return scenario context or null if there is no scenario running in the current thread
+	 */
+	@Nullable
+	private RunningContext.ScenarioContext getBoundScenarioContext() {
 		RunningContext.ScenarioContext context = currentScenarioContext.get();
+		if (context != null && !context.isBoundTo(Thread.currentThread())) {
+			currentScenarioContext.remove();
+			return null;
+		}
+		return context;
+	}
+
+	/**
+	 * Returns outline iteration label of the current scenario, e.g. {@code [3]}, the label is formatted on the first call
+	 *
+	 * @return the label or null if the scenario is not an outline example
+	 */
+	@Nullable
+	protected String getOutlineIterationLabel() {
+		return getCurrentScenarioContext().getOutlineIterationLabel();
+	}
+
+	private RunningContext.ScenarioContext getCurrentScenarioContext() {
+		RunningContext.ScenarioContext context = getBoundScenarioContext();
 		if (context == null) {
-			context = new RunningContext.ScenarioContext();
+			context = spareScenarioContext.get();
+			if (context == null) {
+				context = new RunningContext.ScenarioContext();
+			} else {
+				spareScenarioContext.remove();
+			}
+			context.bindTo(Thread.currentThread());
 			currentScenarioContext.set(context);
 		}
 		return context;
@@ -233,9 +785,9 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	@Nonnull
 	protected Maybe<String> startFeature(@Nonnull StartTestItemRQ startFeatureRq) {
 		Optional<Maybe<String>> root = getRootItemId();
-		startFeatureRq.setStartTime(Calendar.getInstance().getTime());
-		Launch myLaunch = launch.get();
-		return root.map(i -> myLaunch.startTestItem(i, startFeatureRq)).orElseGet(() -> myLaunch.startTestItem(startFeatureRq));
+		startFeatureRq.setStartTime(getCurrentTime());
+		countRequest(startFeatureRq.getType());
+		return startTestItem(root.orElse(null), startFeatureRq);
 	}
 
 	/**
@@ -247,7 +799,25 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 */
 	@Nonnull
 	protected Maybe<String> startScenario(@Nonnull Maybe<String> featureId, @Nonnull StartTestItemRQ startScenarioRq) {
-		return launch.get().startTestItem(featureId, startScenarioRq);
+		return startTestItem(featureId, startScenarioRq);
+	}
+
+	/**
+	 * Extension point to enable feature pipelining: a feature item is started as soon as the feature is parsed, instead of
+	 * waiting for its first scenario. This overlaps the feature start request with Cucumber's preparation of the scenario.
+	 * <p>
+	 * Report Portal does not allow to remove started items, so if all scenarios of a pipelined feature are filtered out
+	 * the feature is still reported, as an empty item.
+	 *
+	 * @return true to start features before their scenarios, false to start them with their first scenario
+	 */
+	protected boolean isFeaturePipelining() {
+		return false;
+	}
+
+	private void startFeature(@Nonnull RunningContext.FeatureContext featureContext) {
+		featureContext.setId(startFeature(featureContext.getItemRq()));
+		addToTree(featureContext);
 	}
 
 	/**
@@ -255,34 +825,52 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 *
 	 * @param scenario         Scenario
 	 * @param outlineIteration - suffix to append to scenario name, can be null
+	 * @deprecated the reporter calls {@link #beforeScenario(Scenario)}, which does not format the outline iteration
+	 * label for every example, use {@link #getOutlineIterationLabel()} there if the label is needed
 	 */
+	@Deprecated
 	@SuppressWarnings("unused")
 	protected void beforeScenario(Scenario scenario, String outlineIteration) {
+		beforeScenario(scenario);
+	}
+
+	/**
+	 * Start Cucumber Feature (if not started) and Scenario
+	 *
+	 * @param scenario Scenario
+	 */
+	protected void beforeScenario(Scenario scenario) {
 		// start Feature here, because it should be started only if at least one Scenario is included.
 		// By this reason, it cannot be started in #beforeFeature method,
 		// because it will be executed even if all Scenarios in the Feature are excluded.
+		// The only exception is feature pipelining, see #isFeaturePipelining.
 		RunningContext.FeatureContext featureContext = currentFeatureContext.get();
 		Launch myLaunch = launch.get();
 		//noinspection ReactiveStreamsUnusedPublisher
 		if (null == featureContext.getId()) {
-			featureContext.setId(startFeature(featureContext.getItemRq()));
-			addToTree(featureContext);
+			startFeature(featureContext);
 		}
 		String uri = featureContext.getUri();
 		StartTestItemRQ rq = buildStartScenarioRequest(scenario, uri);
+		countRequest(rq.getType());
 		RunningContext.ScenarioContext scenarioContext = getCurrentScenarioContext();
 		scenarioContext.setId(startScenario(featureContext.getId(), rq));
 		scenarioContext.setLine(scenario.getLine());
 		scenarioContext.setFeatureUri(uri);
-		descriptionsMap.put(scenarioContext.getId(), ofNullable(rq.getDescription()).orElse(StringUtils.EMPTY));
+		contextRegistry.addScenario(scenarioContext);
+		itemDataStore.get().putDescription(scenarioContext.getId(), ofNullable(rq.getDescription()).orElse(StringUtils.EMPTY));
 		if (myLaunch.getParameters().isCallbackReportingEnabled()) {
 			addToTree(featureContext, scenarioContext);
 		}
 	}
 
 	private void removeFromTree(RunningContext.FeatureContext featureContext, RunningContext.ScenarioContext scenarioContext) {
-		retrieveLeaf(featureContext.getUri(), ITEM_TREE).ifPresent(suiteLeaf -> suiteLeaf.getChildItems()
-				.remove(createKey(scenarioContext.getLine())));
+		TestItemTree.TestItemLeaf scenarioLeaf = scenarioContext.getItemLeaf();
+		if (scenarioLeaf != null) {
+			ofNullable(featureContext.getItemLeaf()).ifPresent(suiteLeaf -> suiteLeaf.getChildItems()
+					.remove(createKey(scenarioContext.getLine()), scenarioLeaf));
+			scenarioContext.setItemLeaf(null);
+		}
 	}
 
 	/**
@@ -297,15 +885,16 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	protected FinishTestItemRQ buildFinishTestItemRequest(@Nonnull Maybe<String> itemId, @Nullable ItemStatus status) {
 		FinishTestItemRQ rq = new FinishTestItemRQ();
 		if (status == ItemStatus.FAILED) {
-			Optional<String> currentDescription = Optional.ofNullable(descriptionsMap.get(itemId));
-			Optional<Throwable> currentError = Optional.ofNullable(errorMap.get(itemId));
+			ItemDataStore dataStore = itemDataStore.get();
+			Optional<String> currentDescription = Optional.ofNullable(dataStore.getDescription(itemId));
+			Optional<Throwable> currentError = Optional.ofNullable(dataStore.getError(itemId));
 			currentDescription.flatMap(description -> currentError.map(errorMessage -> resolveDescriptionErrorMessage(
 					description,
 					errorMessage
 			))).ifPresent(rq::setDescription);
 		}
 		ofNullable(status).ifPresent(s -> rq.setStatus(s.name()));
-		rq.setEndTime(Calendar.getInstance().getTime());
+		rq.setEndTime(getCurrentTime());
 		return rq;
 	}
 
@@ -317,7 +906,7 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 * @return Description with error
 	 */
 	private String resolveDescriptionErrorMessage(String currentDescription, Throwable error) {
-		String errorStr = format(ERROR_FORMAT, getStackTrace(error, new Throwable()));
+		String errorStr = format(ERROR_FORMAT, renderStackTrace(error));
 		return Optional.ofNullable(currentDescription)
 				.filter(StringUtils::isNotBlank)
 				.map(description -> MarkdownUtils.asTwoParts(currentDescription, errorStr))
@@ -335,9 +924,26 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 			LOGGER.error("BUG: Trying to finish unspecified test item.");
 			return;
 		}
-		FinishTestItemRQ finishTestItemRQ = buildFinishTestItemRequest(itemId, status);
+		ofNullable(logDeduplicator.get()).ifPresent(d -> d.flush(itemId));
+		sendFinishTestItem(itemId, buildFinishTestItemRequest(itemId, status));
+	}
+
+	private void sendFinishTestItem(@Nonnull Maybe<String> itemId, @Nonnull FinishTestItemRQ finishTestItemRQ) {
+		countRequest("FINISH");
+		itemDataStore.get().remove(itemId);
+		ReportJournal myJournal = journal.get();
+		if (myJournal != null) {
+			myJournal.finishItem(itemId, finishTestItemRQ);
+			return;
+		}
+		Launch myLaunch = launch.get();
+		InFlightWindow window = inFlightWindow.get();
+		if (window != null) {
+			window.send(() -> myLaunch.finishTestItem(itemId, finishTestItemRQ));
+			return;
+		}
 		//noinspection ReactiveStreamsUnusedPublisher
-		launch.get().finishTestItem(itemId, finishTestItemRQ);
+		myLaunch.finishTestItem(itemId, finishTestItemRQ);
 	}
 
 	/**
@@ -345,9 +951,18 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 */
 	protected void afterScenario() {
 		RunningContext.ScenarioContext context = getCurrentScenarioContext();
+		if (!context.getPendingSteps().isEmpty()) {
+			summarizePendingSteps(context);
+		}
 		finishTestItem(context.getId(), context.getStatus());
+		contextRegistry.removeScenario(context);
 		currentScenarioContext.remove();
 		removeFromTree(currentFeatureContext.get(), context);
+		if (!context.isMoved()) {
+			// a moved context can still be referenced by the thread it was moved from
+			context.reset();
+			spareScenarioContext.set(context);
+		}
 	}
 
 	/**
@@ -379,6 +994,9 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 		//define start feature RQ in this method, because only here we can receive Feature details
 		RunningContext.FeatureContext featureContext = currentFeatureContext.get();
 		featureContext.setItemRq(buildStartFeatureRequest(feature, featureContext.getUri()));
+		if (isFeaturePipelining()) {
+			startFeature(featureContext);
+		}
 	}
 
 	/**
@@ -386,10 +1004,15 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 */
 	protected void afterFeature() {
 		RunningContext.FeatureContext currentFeature = currentFeatureContext.get();
+		if (null == currentFeature) {
+			return;
+		}
 		//noinspection ReactiveStreamsUnusedPublisher
-		if (null != currentFeature && null != currentFeature.getId()) {
+		if (null != currentFeature.getId()) {
 			finishTestItem(currentFeature.getId());
 		}
+		contextRegistry.removeFeature(currentFeature);
+		currentFeatureContext.remove();
 	}
 
 	/**
@@ -405,7 +1028,7 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 		StartTestItemRQ rq = new StartTestItemRQ();
 		rq.setName(Utils.buildName(stepPrefix, step.getKeyword(), step.getName()));
 		rq.setDescription(buildMultilineArgument(step));
-		rq.setStartTime(Calendar.getInstance().getTime());
+		rq.setStartTime(getCurrentTime());
 		rq.setType("STEP");
 		String codeRef = getCodeRef(match);
 		rq.setParameters(getParameters(step, codeRef, match));
@@ -424,15 +1047,12 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 */
 	@Nonnull
 	protected Maybe<String> startStep(@Nonnull Maybe<String> scenarioId, @Nonnull StartTestItemRQ startStepRq) {
-		return launch.get().startTestItem(scenarioId, startStepRq);
+		return startTestItem(scenarioId, startStepRq);
 	}
 
 	private void addToTree(@Nonnull RunningContext.ScenarioContext scenarioContext, @Nullable String text, @Nullable Maybe<String> stepId) {
-		retrieveLeaf(
-				scenarioContext.getFeatureUri(),
-				scenarioContext.getLine(),
-				ITEM_TREE
-		).ifPresent(scenarioLeaf -> scenarioLeaf.getChildItems().put(createKey(text), TestItemTree.createTestItemLeaf(stepId)));
+		ofNullable(scenarioContext.getItemLeaf()).ifPresent(scenarioLeaf -> scenarioLeaf.getChildItems()
+				.put(createKey(text), TestItemTree.createTestItemLeaf(stepId)));
 	}
 
 	/**
@@ -444,11 +1064,19 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	protected void beforeStep(Step step, Match match) {
 		RunningContext.ScenarioContext context = getCurrentScenarioContext();
 		StartTestItemRQ rq = buildStartStepRequest(step, context.getStepPrefix(), match);
-		Maybe<String> stepId = startStep(context.getId(), rq);
+		Maybe<String> stepId;
+		if (isStepSummaryEnabled() && !context.isStepsReported()) {
+			RunningContext.PendingStep pendingStep = new RunningContext.PendingStep(rq);
+			context.getPendingSteps().add(pendingStep);
+			stepId = pendingStep.getId();
+		} else {
+			countRequest(rq.getType());
+			stepId = startStep(context.getId(), rq);
+		}
 		context.setCurrentStepId(stepId);
 		String stepText = step.getName();
 		if (rq.isHasStats()) {
-			descriptionsMap.put(stepId, ofNullable(rq.getDescription()).orElse(StringUtils.EMPTY));
+			itemDataStore.get().putDescription(stepId, ofNullable(rq.getDescription()).orElse(StringUtils.EMPTY));
 		}
 
 		if (launch.get().getParameters().isCallbackReportingEnabled()) {
@@ -464,10 +1092,132 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	protected void afterStep(@Nonnull Result result) {
 		reportResult(result, null);
 		RunningContext.ScenarioContext context = getCurrentScenarioContext();
-		finishTestItem(context.getCurrentStepId(), mapStatus(result.getStatus()));
+		ItemStatus status = mapStatus(result.getStatus());
+		RunningContext.PendingStep pendingStep = context.getPendingStep(context.getCurrentStepId());
+		if (pendingStep == null) {
+			finishTestItem(context.getCurrentStepId(), status);
+		} else {
+			pendingStep.finish(status, getCurrentTime());
+			if (status != ItemStatus.PASSED) {
+				reportPendingSteps(context);
+			}
+		}
 		context.setCurrentStepId(null);
 	}
 
+	/**
+	 * Extension point to enable the passed step summary mode. In this mode steps and hooks of a scenario are kept pending
+	 * instead of being reported: if the scenario passes, only the scenario item is reported, with a summary of its steps
+	 * in a log, see {@link #buildStepSummary(List)}, and with the step and hook logs. As soon as a step or a hook fails,
+	 * is skipped or has an attachment, the scenario step tree is reported in full, with the original step times, and the
+	 * following steps of the scenario are reported as usual.
+	 * <p>
+	 * Only the reporter's own logs are kept with pending steps. Logs which step code sends through the client's logging
+	 * context, i.e. {@code ReportPortal.emitLog} calls and logging framework appenders, are sent at once to the item which
+	 * is started at the moment: the scenario item, or the step item if the step tree is already reported.
+	 *
+	 * @return true to summarize passed steps, false to report every step as an item
+	 */
+	protected boolean isStepSummaryEnabled() {
+		return false;
+	}
+
+	/**
+	 * Extension point to customize the summary of steps of a passed scenario in the step summary mode
+	 *
+	 * @param steps passed steps of the scenario, without hooks
+	 * @return summary text, which is logged to the scenario item
+	 */
+	@Nonnull
+	protected String buildStepSummary(@Nonnull List<RunningContext.PendingStep> steps) {
+		StringBuilder summary = new StringBuilder("Passed steps:");
+		for (RunningContext.PendingStep step : steps) {
+			StartTestItemRQ rq = step.getStartRq();
+			summary.append('\n').append(rq.getName());
+			Date endTime = step.getEndTime();
+			if (endTime != null && rq.getStartTime() != null) {
+				summary.append(" (").append(endTime.getTime() - rq.getStartTime().getTime()).append(" ms)");
+			}
+		}
+		return summary.toString();
+	}
+
+	/**
+	 * Report pending steps of the scenario as items, with their logs and results, and stop keeping further steps pending
+	 *
+	 * @param context scenario context
+	 */
+	private void reportPendingSteps(@Nonnull RunningContext.ScenarioContext context) {
+		context.setStepsReported(true);
+		List<RunningContext.PendingStep> pendingSteps = context.getPendingSteps();
+		ItemDataStore dataStore = itemDataStore.get();
+		for (RunningContext.PendingStep step : pendingSteps) {
+			StartTestItemRQ rq = step.getStartRq();
+			countRequest(rq.getType());
+			Maybe<String> stepId = step.isHook() ? startHook(context.getId(), rq) : startStep(context.getId(), rq);
+			Maybe<String> pendingId = step.getId();
+			stepId.subscribe(step.getId());
+			ofNullable(dataStore.getDescription(pendingId)).ifPresent(d -> dataStore.putDescription(stepId, d));
+			ofNullable(dataStore.getError(pendingId)).ifPresent(e -> dataStore.putError(stepId, e));
+			dataStore.remove(pendingId);
+			if (context.getCurrentStepId() == pendingId) {
+				context.setCurrentStepId(stepId);
+			}
+			if (context.getHookStepId() == pendingId) {
+				context.setHookStepId(stepId);
+			}
+			for (LogPipeline.LogEntry entry : step.getLogs()) {
+				countRequest("LOG");
+				emitLog(new LogPipeline.LogEntry(stepId, entry.getLevel(), entry.getTime(), entry.getMessage()));
+			}
+			Date endTime = step.getEndTime();
+			if (endTime != null) {
+				FinishTestItemRQ finishRq = buildFinishTestItemRequest(stepId, step.getStatus());
+				finishRq.setEndTime(endTime);
+				sendFinishTestItem(stepId, finishRq);
+			}
+		}
+		pendingSteps.clear();
+	}
+
+	/**
+	 * Log the summary of pending steps and their logs to the scenario item, if all the steps passed. Otherwise report the
+	 * steps as items.
+	 *
+	 * @param context scenario context
+	 */
+	private void summarizePendingSteps(@Nonnull RunningContext.ScenarioContext context) {
+		List<RunningContext.PendingStep> pendingSteps = context.getPendingSteps();
+		for (RunningContext.PendingStep step : pendingSteps) {
+			if (!step.isFinished() || step.getStatus() != ItemStatus.PASSED) {
+				reportPendingSteps(context);
+				return;
+			}
+		}
+		Maybe<String> scenarioId = context.getId();
+		List<RunningContext.PendingStep> steps = pendingSteps.stream().filter(pending -> !pending.isHook()).collect(Collectors.toList());
+		countRequest("LOG");
+		emitLog(new LogPipeline.LogEntry(scenarioId, "INFO", getCurrentTimeMillis(), buildStepSummary(steps)));
+		for (RunningContext.PendingStep step : pendingSteps) {
+			for (LogPipeline.LogEntry entry : step.getLogs()) {
+				countRequest("LOG");
+				emitLog(new LogPipeline.LogEntry(scenarioId, entry.getLevel(), entry.getTime(), entry.getMessage()));
+			}
+			itemDataStore.get().remove(step.getId());
+			step.getId().onComplete();
+		}
+		pendingSteps.clear();
+	}
+
+	@Nullable
+	private RunningContext.PendingStep getCurrentPendingStep() {
+		RunningContext.ScenarioContext context = getBoundScenarioContext();
+		if (context == null) {
+			return null;
+		}
+		return context.getPendingStep(ofNullable(context.getCurrentStepId()).orElseGet(context::getHookStepId));
+	}
+
 	/**
 	 * Extension point to customize test creation event/request
 	 *
@@ -478,7 +1228,7 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 		StartTestItemRQ rq = new StartTestItemRQ();
 		rq.setType(isBefore ? "BEFORE_TEST" : "AFTER_TEST");
 		rq.setName(isBefore ? "Before hooks" : "After hooks");
-		rq.setStartTime(Calendar.getInstance().getTime());
+		rq.setStartTime(getCurrentTime());
 		return rq;
 	}
 
@@ -491,7 +1241,7 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 */
 	@Nonnull
 	protected Maybe<String> startHook(@Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
-		return launch.get().startTestItem(parentId, rq);
+		return startTestItem(parentId, rq);
 	}
 
 	/**
@@ -501,9 +1251,15 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 */
 	protected void beforeHooks(boolean isBefore) {
 		StartTestItemRQ rq = buildStartHookRequest(isBefore);
-
 		RunningContext.ScenarioContext context = getCurrentScenarioContext();
-		context.setHookStepId(startHook(context.getId(), rq));
+		if (isStepSummaryEnabled() && !context.isStepsReported()) {
+			RunningContext.PendingStep pendingHook = new RunningContext.PendingStep(rq, true);
+			context.getPendingSteps().add(pendingHook);
+			context.setHookStepId(pendingHook.getId());
+		} else {
+			countRequest(rq.getType());
+			context.setHookStepId(startHook(context.getId(), rq));
+		}
 		context.setHookStatus(ItemStatus.PASSED);
 	}
 
@@ -515,7 +1271,16 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	@SuppressWarnings("unused")
 	protected void afterHooks(Boolean isBefore) {
 		RunningContext.ScenarioContext context = getCurrentScenarioContext();
-		finishTestItem(context.getHookStepId(), context.getHookStatus());
+		ItemStatus status = context.getHookStatus();
+		RunningContext.PendingStep pendingHook = context.getPendingStep(context.getHookStepId());
+		if (pendingHook == null) {
+			finishTestItem(context.getHookStepId(), status);
+		} else {
+			pendingHook.finish(status, getCurrentTime());
+			if (status != ItemStatus.PASSED) {
+				reportPendingSteps(context);
+			}
+		}
 		context.setHookStepId(null);
 	}
 
@@ -547,14 +1312,15 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 		if (errorMessage != null) {
 			sendLog(errorMessage, level);
 		} else if (result.getError() != null) {
-			sendLog(getStackTrace(result.getError(), new Throwable()), level);
+			sendLog(renderStackTrace(result.getError()), level);
 		}
 		RunningContext.ScenarioContext currentScenario = getCurrentScenarioContext();
 		ItemStatus itemStatus = mapStatus(result.getStatus());
 		currentScenario.updateStatus(itemStatus);
 		if (itemStatus == ItemStatus.FAILED) {
-			errorMap.put(currentScenario.getId(), result.getError());
-			errorMap.put(currentScenario.getCurrentStepId(), result.getError());
+			ItemDataStore dataStore = itemDataStore.get();
+			dataStore.putError(currentScenario.getId(), result.getError());
+			dataStore.putError(currentScenario.getCurrentStepId(), result.getError());
 		}
 	}
 
@@ -584,11 +1350,13 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 
 	@Override
 	public void result(Result result) {
+		long startTime = startTiming();
 		afterStep(result);
 		RunningContext.ScenarioContext context = getCurrentScenarioContext();
 		if (!context.isInBackground() && context.noMoreSteps()) {
 			beforeHooks(false);
 		}
+		stopTiming(ReporterMetrics.Event.RESULT, startTime);
 	}
 
 	@Override
@@ -598,19 +1366,72 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 
 	@Override
 	public void match(Match match) {
+		long startTime = startTiming();
 		beforeStep(getCurrentScenarioContext().getNextStep(), match);
+		stopTiming(ReporterMetrics.Event.MATCH, startTime);
+	}
+
+	/**
+	 * Returns MIME type detector of embedded data, can be used to monitor its hit and miss counts
+	 *
+	 * @return MIME type detector
+	 */
+	@Nonnull
+	protected MimeTypeSniffer getMimeTypeSniffer() {
+		return mimeTypeSniffer;
 	}
 
 	@Nullable
-	private static String getDataType(@Nonnull byte[] data) {
+	private String getDataType(@Nonnull byte[] data) {
 		try {
-			return MimeTypeDetector.detect(ByteSource.wrap(data), null);
+			return mimeTypeSniffer.detect(data);
 		} catch (IOException e) {
 			LOGGER.warn("Unable to detect MIME type", e);
 		}
 		return null;
 	}
 
+	/**
+	 * Extension point to customize the size of embedded data starting from which the data is written to a temporary file
+	 * until it is sent, instead of being held in memory. Spooling is disabled by default.
+	 *
+	 * @return size in bytes, or a negative number to keep all embedded data in memory
+	 */
+	protected long getEmbeddingSpoolThreshold() {
+		return -1;
+	}
+
+	/**
+	 * Extension point to customize the directory of embedded data temporary files
+	 *
+	 * @return a directory or null to use the default temporary directory
+	 */
+	@Nullable
+	protected File getEmbeddingSpoolDirectory() {
+		return null;
+	}
+
+	/**
+	 * Build a source of embedded data for sending. The data is not copied: it is either wrapped as is or written to a
+	 * temporary file if its size exceeds {@link #getEmbeddingSpoolThreshold()}.
+	 *
+	 * @param data     embedded data
+	 * @param mimeType the data type
+	 * @return data source
+	 */
+	@Nonnull
+	protected TypeAwareByteSource buildEmbeddingSource(@Nonnull byte[] data, @Nullable String mimeType) {
+		long threshold = getEmbeddingSpoolThreshold();
+		if (threshold >= 0 && data.length > threshold) {
+			try {
+				return AttachmentUtils.spool(data, mimeType, getEmbeddingSpoolDirectory());
+			} catch (IOException e) {
+				LOGGER.warn("Unable to spool embedded data, sending it from memory", e);
+			}
+		}
+		return AttachmentUtils.wrap(data, mimeType);
+	}
+
 	/**
 	 * Send a log with data attached.
 	 *
@@ -619,29 +1440,80 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 */
 	@Override
 	public void embedding(String mimeType, byte[] data) {
+		long startTime = startTiming();
 		String type = ofNullable(mimeType).filter(ContentType::isValidType).orElseGet(() -> getDataType(data));
 		String attachmentName = ofNullable(type).map(t -> t.substring(0, t.indexOf("/"))).orElse("");
-		ReportPortal.emitLog(
-				new ReportPortalMessage(ByteSource.wrap(data), type, attachmentName),
-				"UNKNOWN",
-				Calendar.getInstance().getTime()
-		);
+		if (getCurrentPendingStep() != null) {
+			// a step with an attachment is reported in full, with its scenario step tree
+			reportPendingSteps(getBoundScenarioContext());
+		}
+		ReportJournal myJournal = journal.get();
+		if (myJournal != null) {
+			SaveLogRQ rq = buildLogRq(attachmentName, "UNKNOWN", getCurrentTime());
+			SaveLogRQ.File file = new SaveLogRQ.File();
+			file.setName(UUID.randomUUID().toString());
+			file.setContent(data);
+			file.setContentType(ofNullable(type).orElse(ContentType.APPLICATION_OCTET_STREAM));
+			rq.setFile(file);
+			myJournal.log(getLogItemId(), rq);
+			countRequest("ATTACHMENT");
+			stopTiming(ReporterMetrics.Event.EMBEDDING, startTime);
+			return;
+		}
+		if (shedLog()) {
+			stopTiming(ReporterMetrics.Event.EMBEDDING, startTime);
+			return;
+		}
+		TypeAwareByteSource source = buildEmbeddingSource(data, type);
+		if (!ReportPortal.emitLog(new ReportPortalMessage(source, attachmentName), "UNKNOWN", getCurrentTime())) {
+			AttachmentUtils.discard(source);
+		}
+		countRequest("ATTACHMENT");
+		stopTiming(ReporterMetrics.Event.EMBEDDING, startTime);
 	}
 
 	@Override
 	public void syntaxError(String state, String event, List<String> legalEvents, String uri, Integer line) {
 	}
 
+	/**
+	 * Start the launch if it is not started yet. Only the first caller starts the launch, concurrent callers wait until
+	 * it is started. If the start fails the launch stays not started, so the next caller tries again. Once the launch is
+	 * started the method costs one volatile read.
+	 */
+	protected void startLaunch() {
+		if (launchState.get() == LaunchState.STARTED) {
+			return;
+		}
+		synchronized (launchStartLock) {
+			if (launchState.get() != LaunchState.NEW) {
+				return;
+			}
+			Launch myLaunch = launch.get();
+			if (journal.get() == null) {
+				Maybe<String> launchId = myLaunch.start();
+				// each reporter instance writes its launch ID to the shared tree only once
+				ITEM_TREE.setLaunchId(launchId);
+			}
+			launchState.compareAndSet(LaunchState.NEW, LaunchState.STARTED);
+		}
+	}
+
 	@Override
 	public void uri(String uri) {
-		currentFeatureContext.set(new RunningContext.FeatureContext(uri));
-		Maybe<String> launchId = launch.get().start();
-		ITEM_TREE.setLaunchId(launchId);
+		long startTime = startTiming();
+		RunningContext.FeatureContext context = new RunningContext.FeatureContext(uri);
+		contextRegistry.addFeature(context);
+		currentFeatureContext.set(context);
+		startLaunch();
+		stopTiming(ReporterMetrics.Event.URI, startTime);
 	}
 
 	@Override
 	public void feature(Feature feature) {
+		long startTime = startTiming();
 		beforeFeature(feature);
+		stopTiming(ReporterMetrics.Event.FEATURE, startTime);
 	}
 
 	@Override
@@ -651,19 +1523,19 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 
 	@Override
 	public void examples(Examples examples) {
-		// examples always have headers; therefore up to num - 1
-		RunningContext.ScenarioContext context = getCurrentScenarioContext();
-		Queue<String> iterations = context.getOutlineIterations();
-		IntStream.range(1, examples.getRows().size()).forEach(it -> iterations.add(String.format("[%d]", it)));
+		// examples always have headers; therefore num - 1 iterations
+		currentFeatureContext.get().getOutlineIterations().add(examples.getRows().size() - 1);
 	}
 
 	@Override
 	public void startOfScenarioLifeCycle(Scenario scenario) {
+		long startTime = startTiming();
 		RunningContext.ScenarioContext context = getCurrentScenarioContext();
-		String iteration = context.getOutlineIterations().poll();
+		context.setOutlineIteration(currentFeatureContext.get().getOutlineIterations().poll());
 		context.setInBackground(false);
-		beforeScenario(scenario, iteration);
+		beforeScenario(scenario);
 		beforeHooks(true);
+		stopTiming(ReporterMetrics.Event.START_OF_SCENARIO_LIFECYCLE, startTime);
 	}
 
 	@Override
@@ -687,7 +1559,7 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 
 	@Override
 	public void step(Step step) {
-		RunningContext.ScenarioContext context = currentScenarioContext.get();
+		RunningContext.ScenarioContext context = getBoundScenarioContext();
 		if (context != null) {
 			// Skip scenario outlines steps without initialized parameters
 			context.addStep(step);
@@ -696,8 +1568,10 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 
 	@Override
 	public void endOfScenarioLifeCycle(Scenario scenario) {
+		long startTime = startTiming();
 		afterHooks(false);
 		afterScenario();
+		stopTiming(ReporterMetrics.Event.END_OF_SCENARIO_LIFECYCLE, startTime);
 	}
 
 	@Override
@@ -707,14 +1581,35 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 
 	@Override
 	public void close() {
-		if (finished.compareAndSet(false, true)) {
-			afterLaunch();
+		LaunchState state;
+		synchronized (launchStartLock) {
+			// wait for the launch start in progress, if any
+			state = launchState.getAndSet(LaunchState.FINISHED);
+		}
+		if (state != LaunchState.FINISHED) {
+			long startTime = startTiming();
+			if (logDeduplicator.isInitialized()) {
+				// entries of items which were not finished
+				ofNullable(logDeduplicator.get()).ifPresent(LogDeduplicator::flush);
+			}
+			if (logPipeline.isInitialized()) {
+				ofNullable(logPipeline.get()).ifPresent(LogPipeline::close);
+			}
+			if (state != LaunchState.NEW || !isLaunchJoined()) {
+				afterLaunch();
+			}
+			closeJournal();
+			stopTiming(ReporterMetrics.Event.CLOSE, startTime);
+			reportMetrics();
+			reportInFlightWindow();
 		}
 	}
 
 	@Override
 	public void eof() {
+		long startTime = startTiming();
 		afterFeature();
+		stopTiming(ReporterMetrics.Event.EOF, startTime);
 	}
 
 	/**
@@ -724,6 +1619,45 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 */
 	protected abstract Optional<Maybe<String>> getRootItemId();
 
+	/**
+	 * Extension point to customize Test Case ID caching, e.g. to change the cache capacity
+	 *
+	 * @return Test Case ID cache or null to calculate an ID for every item
+	 */
+	@Nullable
+	protected TestCaseIdCache buildTestCaseIdCache() {
+		return new TestCaseIdCache();
+	}
+
+	/**
+	 * Returns the Test Case ID cache, can be used to monitor cache hits and misses
+	 *
+	 * @return Test Case ID cache or null if IDs are not cached
+	 */
+	@Nullable
+	protected TestCaseIdCache getTestCaseIdCache() {
+		return testCaseIdCache.get();
+	}
+
+	@Nullable
+	private static List<String> getArgumentValues(@Nullable List<Argument> arguments) {
+		if (arguments == null) {
+			return null;
+		}
+		List<String> result = new ArrayList<>(arguments.size());
+		for (Argument argument : arguments) {
+			result.add(argument.getVal());
+		}
+		return result;
+	}
+
+	@Nullable
+	private TestCaseIdEntry getTestCaseId(@Nullable Method method, @Nullable String codeRef, @Nullable List<String> arguments,
+			@Nonnull Supplier<TestCaseIdEntry> calculator) {
+		TestCaseIdCache cache = testCaseIdCache.get();
+		return cache == null ? calculator.get() : cache.get(method, codeRef, arguments, calculator);
+	}
+
 	/**
 	 * Return a Test Case ID for a feature file
 	 *
@@ -731,10 +1665,10 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 * @param arguments a scenario arguments
 	 * @return Test Case ID entity or null if it's not possible to calculate
 	 */
-	@SuppressWarnings("unchecked")
 	@Nullable
 	private TestCaseIdEntry getTestCaseId(@Nullable String codeRef, @Nullable List<Argument> arguments) {
-		return TestCaseIdUtils.getTestCaseId(codeRef, (List<Object>) ARGUMENTS_TRANSFORM.apply(arguments));
+		List<String> values = getArgumentValues(arguments);
+		return getTestCaseId(null, codeRef, values, () -> TestCaseIdUtils.getTestCaseId(codeRef, values));
 	}
 
 	/**
@@ -744,23 +1678,19 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 * @param codeRef a code reference
 	 * @return Test Case ID entity or null if it's not possible to calculate
 	 */
-	@SuppressWarnings("unchecked")
 	@Nullable
 	protected TestCaseIdEntry getTestCaseId(@Nonnull Match match, @Nullable String codeRef) {
-		try {
-			Method method = retrieveMethod(match);
-			if (method == null) {
-				return getTestCaseId(codeRef, match.getArguments());
-			}
-			return TestCaseIdUtils.getTestCaseId(
-					method.getAnnotation(TestCaseId.class),
-					method,
-					codeRef,
-					(List<Object>) ARGUMENTS_TRANSFORM.apply(match.getArguments())
-			);
-		} catch (NoSuchFieldException | IllegalAccessException e) {
+		StepDefinitionMetadata metadata = StepDefinitionMetadata.of(match);
+		Method method = metadata == null ? null : metadata.getMethod();
+		if (method == null) {
 			return getTestCaseId(codeRef, match.getArguments());
 		}
+		List<String> values = getArgumentValues(match.getArguments());
+		return getTestCaseId(method,
+				codeRef,
+				values,
+				() -> TestCaseIdUtils.getTestCaseId(metadata.getTestCaseId(), method, codeRef, values)
+		);
 	}
 
 	/**
@@ -806,26 +1736,9 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 */
 	@Nullable
 	protected String getCodeRef(@Nonnull Match match) {
-		try {
-			Field stepDefinitionField = match.getClass().getDeclaredField(STEP_DEFINITION_FIELD_NAME);
-			stepDefinitionField.setAccessible(true);
-			Object javaStepDefinition = stepDefinitionField.get(match);
-			Method getLocationMethod = javaStepDefinition.getClass().getDeclaredMethod(GET_LOCATION_METHOD_NAME, boolean.class);
-			getLocationMethod.setAccessible(true);
-			String fullCodeRef = String.valueOf(getLocationMethod.invoke(javaStepDefinition, true));
-			if (!fullCodeRef.isEmpty()) {
-				int openingBracketIndex = fullCodeRef.indexOf(METHOD_OPENING_BRACKET);
-				if (openingBracketIndex > 0) {
-					return fullCodeRef.substring(0, fullCodeRef.indexOf(METHOD_OPENING_BRACKET));
-				} else {
-					return fullCodeRef;
-				}
-			} else {
-				return match.getLocation();
-			}
-		} catch (NoSuchFieldException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-			return match.getLocation();
-		}
+		StepDefinitionMetadata metadata = StepDefinitionMetadata.of(match);
+		String codeRef = metadata == null ? null : metadata.getCodeRef();
+		return codeRef == null ? match.getLocation() : codeRef;
 	}
 
 	/**
@@ -877,7 +1790,9 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 */
 	@Override
 	public void write(String text) {
+		long startTime = startTiming();
 		sendLog(text);
+		stopTiming(ReporterMetrics.Event.WRITE, startTime);
 	}
 
 	/**
@@ -896,7 +1811,60 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 * @param level   a log level, see standard Log4j / logback logging levels
 	 */
 	protected void sendLog(final String message, final String level) {
-		ReportPortal.emitLog(message, level, Calendar.getInstance().getTime());
+		RunningContext.PendingStep pendingStep = getCurrentPendingStep();
+		if (pendingStep != null) {
+			// counted when the step is reported or summarized
+			pendingStep.addLog(new LogPipeline.LogEntry(pendingStep.getId(), level, getCurrentTimeMillis(), message));
+			return;
+		}
+		if (journal.get() == null && shedLog()) {
+			return;
+		}
+		countRequest("LOG");
+		LogDeduplicator deduplicator = logDeduplicator.get();
+		Maybe<String> logItemId = deduplicator == null ? null : getLogItemId();
+		if (logItemId != null) {
+			deduplicator.log(new LogPipeline.LogEntry(logItemId, level, getCurrentTimeMillis(), message));
+			return;
+		}
+		ReportJournal myJournal = journal.get();
+		if (myJournal != null) {
+			myJournal.log(getLogItemId(), buildLogRq(message, level, getCurrentTime()));
+			return;
+		}
+		LogPipeline pipeline = logPipeline.get();
+		Maybe<String> itemId = pipeline == null ? null : getLogItemId();
+		if (itemId == null) {
+			ReportPortal.emitLog(message, level, getCurrentTime());
+			return;
+		}
+		pipeline.emit(new LogPipeline.LogEntry(itemId, level, getCurrentTimeMillis(), message));
+	}
+
+	@Nonnull
+	private SaveLogRQ buildLogRq(@Nullable String message, @Nonnull String level, @Nonnull Date time) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setMessage(message);
+		rq.setLevel(level);
+		rq.setLogTime(time);
+		return rq;
+	}
+
+	/**
+	 * Returns an ID of the item to which a log entry belongs: current step, current hook or current scenario
+	 *
+	 * @return item ID or null if there is no scenario running in the current thread
+	 */
+	@Nullable
+	private Maybe<String> getLogItemId() {
+		RunningContext.ScenarioContext context = getBoundScenarioContext();
+		if (context == null) {
+			return null;
+		}
+		if (context.getCurrentStepId() != null) {
+			return context.getCurrentStepId();
+		}
+		return context.getHookStepId() != null ? context.getHookStepId() : context.getId();
 	}
 
 	/**
@@ -909,34 +1877,96 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 */
 	@Nonnull
 	protected List<ParameterResource> getParameters(@Nonnull Step step, @Nullable String codeRef, @Nonnull Match match) {
-		List<Pair<String, String>> params = ofNullable(match.getArguments()).map(a -> IntStream.range(0, a.size())
-				.mapToObj(i -> Pair.of("arg" + i, a.get(i).getVal()))
-				.collect(Collectors.toList())).orElse(new ArrayList<>());
+		List<Argument> arguments = match.getArguments();
+		int argumentNumber = arguments == null ? 0 : arguments.size();
+		String docString = ofNullable(step.getDocString()).map(DocString::getValue).filter(ds -> !ds.isEmpty()).orElse(null);
+		List<DataTableRow> rows = step.getRows();
+		boolean hasRows = rows != null && !rows.isEmpty();
+		int parameterNumber = argumentNumber + (docString == null ? 0 : 1) + (hasRows ? 1 : 0);
+		if (parameterNumber == 0) {
+			return Collections.emptyList();
+		}
 
-		ofNullable(step.getDocString()).map(DocString::getValue)
-				.filter(ds -> !ds.isEmpty())
-				.ifPresent(ds -> params.add(Pair.of("docstring", StringEscapeUtils.escapeHtml4(ds))));
-		ofNullable(step.getRows()).filter(rows -> !rows.isEmpty())
-				.ifPresent(rows -> params.add(Pair.of(
-						"datatable",
-						formatDataTable(rows.stream().map(Row::getCells).collect(Collectors.toList()))
-				)));
-		return params.isEmpty() ? Collections.emptyList() : ParameterUtils.getParameters(codeRef, params);
+		String[] names = new String[parameterNumber];
+		String[] values = new String[parameterNumber];
+		int i = 0;
+		for (; i < argumentNumber; i++) {
+			names[i] = StepParameters.argumentName(i);
+			values[i] = arguments.get(i).getVal();
+		}
+		if (docString != null) {
+			names[i] = "docstring";
+			values[i++] = StepParameters.escapeHtml(docString);
+		}
+		if (hasRows) {
+			names[i] = "datatable";
+			values[i] = renderDataTable(rows);
+		}
+		return StepParameters.getParameters(codeRef, names, values);
+	}
+
+	/**
+	 * Extension point to customize data table rendering, e.g. to limit the number of rendered rows and columns of large
+	 * tables:
+	 * <pre>{@code
+	 * return new DataTableRenderer(100, 20);
+	 * }</pre>
+	 *
+	 * @return data table renderer, with no limits by default
+	 */
+	@Nonnull
+	protected DataTableRenderer buildDataTableRenderer() {
+		return new DataTableRenderer();
+	}
+
+	/**
+	 * Render a step data table. A step's table is rendered once and reused for its parameters, description and log.
+	 *
+	 * @param rows data table rows
+	 * @return the table in Markdown format
+	 */
+	@Nonnull
+	protected String renderDataTable(@Nonnull List<? extends Row> rows) {
+		return dataTableRenderer.get().render(rows);
+	}
+
+	/**
+	 * Extension point to customize stack trace rendering, e.g. to collapse test framework frames and to cap large traces:
+	 * <pre>{@code
+	 * return new StackTraceRenderer(Arrays.asList("org.junit", "sun.reflect", "cucumber.runtime"), 50, 16384);
+	 * }</pre>
+	 *
+	 * @return stack trace renderer, with no filters and limits by default
+	 */
+	@Nonnull
+	protected StackTraceRenderer buildStackTraceRenderer() {
+		return new StackTraceRenderer();
+	}
+
+	/**
+	 * Render an error stack trace. An error is rendered once and reused for the step log and the item descriptions.
+	 *
+	 * @param error the error
+	 * @return the stack trace
+	 */
+	@Nonnull
+	protected String renderStackTrace(@Nonnull Throwable error) {
+		return stackTraceRenderer.get().render(error);
 	}
 
 	/**
-	 * Transform tags from Cucumber to RP format
+	 * Transform tags from Cucumber to RP format, {@code @key:value} tags become key-value attributes, see
+	 * {@link TagAttributes}
+	 * <p>
+	 * The returned set and its attributes are shared between all items with the same tags and must not be modified,
+	 * an override which adds or changes attributes should copy them into a new set first.
 	 *
 	 * @param tags - Cucumber tags
-	 * @return set of tags
+	 * @return an unmodifiable set of tags, shared between items with the same tags
 	 */
 	@Nonnull
 	protected Set<ItemAttributesRQ> extractAttributes(@Nonnull List<Tag> tags) {
-		Set<ItemAttributesRQ> result = new HashSet<>();
-		for (Tag tag : tags) {
-			result.add(new ItemAttributesRQ(null, tag.getName()));
-		}
-		return result;
+		return TagAttributes.of(tags);
 	}
 
 	/**
@@ -947,19 +1977,8 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 */
 	@Nullable
 	protected Set<ItemAttributesRQ> getAttributes(Match match) {
-		try {
-			Method method = retrieveMethod(match);
-			if (method == null) {
-				return null;
-			}
-			Attributes attributesAnnotation = method.getAnnotation(Attributes.class);
-			if (attributesAnnotation != null) {
-				return AttributeParser.retrieveAttributes(attributesAnnotation);
-			}
-		} catch (NoSuchFieldException | IllegalAccessException e) {
-			return null;
-		}
-		return null;
+		StepDefinitionMetadata metadata = StepDefinitionMetadata.of(match);
+		return metadata == null ? null : metadata.getAttributes();
 	}
 
 	/**
@@ -971,9 +1990,7 @@ public abstract class AbstractReporter implements Formatter, Reporter {
 	 */
 	protected String buildMultilineArgument(Step step) {
 		StringBuilder marg = new StringBuilder();
-		ofNullable(step.getRows()).map(rows -> rows.stream().map(Row::getCells).collect(Collectors.toList()))
-				.filter(t -> !t.isEmpty())
-				.ifPresent(t -> marg.append(formatDataTable(t)));
+		ofNullable(step.getRows()).filter(rows -> !rows.isEmpty()).ifPresent(rows -> marg.append(renderDataTable(rows)));
 		ofNullable(step.getDocString()).map(DocString::getValue)
 				.filter(ds -> !ds.isEmpty())
 				.ifPresent(ds -> marg.append(DOCSTRING_DECORATOR).append(ds).append(DOCSTRING_DECORATOR));
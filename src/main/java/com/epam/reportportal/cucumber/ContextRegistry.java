@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of running features and scenarios, keyed by feature URI and scenario line.
+ * <p>
+ * Cucumber formatter events do not carry feature or scenario identifiers, so a reporter binds contexts to the thread
+ * which runs them. The registry keeps all running contexts regardless of threads, so a runner which moves a feature or
+ * a scenario to another thread can bind it there by its URI and line. Contexts are removed from the registry as soon as
+ * the corresponding items are finished.
+ */
+public class ContextRegistry {
+
+	private static final class ScenarioKey {
+		private final String featureUri;
+		private final int line;
+		private final int hash;
+
+		private ScenarioKey(@Nonnull String uri, int scenarioLine) {
+			featureUri = uri;
+			line = scenarioLine;
+			hash = 31 * uri.hashCode() + scenarioLine;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			ScenarioKey that = (ScenarioKey) o;
+			return line == that.line && featureUri.equals(that.featureUri);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private final Map<String, RunningContext.FeatureContext> features = new ConcurrentHashMap<>();
+	private final Map<ScenarioKey, RunningContext.ScenarioContext> scenarios = new ConcurrentHashMap<>();
+
+	@Nullable
+	private static ScenarioKey key(@Nonnull RunningContext.ScenarioContext context) {
+		String uri = context.getFeatureUri();
+		Integer line = context.getLine();
+		return uri == null || line == null ? null : new ScenarioKey(uri, line);
+	}
+
+	/**
+	 * Register a running feature. A feature with the same URI which is still registered is replaced.
+	 *
+	 * @param context feature context
+	 */
+	public void addFeature(@Nonnull RunningContext.FeatureContext context) {
+		features.put(context.getUri(), context);
+	}
+
+	/**
+	 * Register a running scenario. The scenario context should have its feature URI and line set.
+	 *
+	 * @param context scenario context
+	 */
+	public void addScenario(@Nonnull RunningContext.ScenarioContext context) {
+		ScenarioKey key = Objects.requireNonNull(key(context), "Scenario context should have its feature URI and line set");
+		scenarios.put(key, context);
+	}
+
+	/**
+	 * @param uri feature URI
+	 * @return running feature context or null if there is no such
+	 */
+	@Nullable
+	public RunningContext.FeatureContext getFeature(@Nonnull String uri) {
+		return features.get(uri);
+	}
+
+	/**
+	 * @param uri  feature URI
+	 * @param line scenario line
+	 * @return running scenario context or null if there is no such
+	 */
+	@Nullable
+	public RunningContext.ScenarioContext getScenario(@Nonnull String uri, int line) {
+		return scenarios.get(new ScenarioKey(uri, line));
+	}
+
+	/**
+	 * Remove a feature from the registry, if it was not replaced with another context
+	 *
+	 * @param context feature context
+	 */
+	public void removeFeature(@Nonnull RunningContext.FeatureContext context) {
+		features.remove(context.getUri(), context);
+	}
+
+	/**
+	 * Remove a scenario from the registry, if it was not replaced with another context
+	 *
+	 * @param context scenario context
+	 */
+	public void removeScenario(@Nonnull RunningContext.ScenarioContext context) {
+		ScenarioKey key = key(context);
+		if (key != null) {
+			scenarios.remove(key, context);
+		}
+	}
+
+	/**
+	 * @return number of running features
+	 */
+	public int getFeatureCount() {
+		return features.size();
+	}
+
+	/**
+	 * @return number of running scenarios
+	 */
+	public int getScenarioCount() {
+		return scenarios.size();
+	}
+}
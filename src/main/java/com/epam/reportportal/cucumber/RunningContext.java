@@ -1,13 +1,16 @@
 package com.epam.reportportal.cucumber;
 
+import com.epam.reportportal.cucumber.util.LogPipeline;
 import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.tree.TestItemTree;
 import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
 import gherkin.formatter.model.Step;
 import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayDeque;
-import java.util.Queue;
+import javax.annotation.Nullable;
+import java.util.*;
 
 /**
  * Running context that contains mostly manipulations with Gherkin objects.
@@ -21,13 +24,179 @@ public class RunningContext {
 		throw new AssertionError("No instances should exist for the class!");
 	}
 
+	/**
+	 * Iterations of scenario outline examples which are not started yet. Each Examples table adds a range of iteration
+	 * numbers starting from 1, only the range ends are stored, so a large table costs no allocations. Iteration labels are
+	 * formatted on demand with {@link #label(int)}.
+	 */
+	public static class OutlineIterations {
+		/**
+		 * No iteration: the scenario is not an outline example
+		 */
+		public static final int NONE = 0;
+
+		private static final String LABEL_FORMAT = "[%d]";
+
+		private int[] ends = new int[4];
+		private int head;
+		private int tail;
+		private int current;
+
+		/**
+		 * Add iterations of an Examples table
+		 *
+		 * @param iterationNumber number of example rows, with no header
+		 */
+		public void add(int iterationNumber) {
+			if (iterationNumber <= 0) {
+				return;
+			}
+			if (tail == ends.length) {
+				ends = Arrays.copyOf(ends, ends.length * 2);
+			}
+			ends[tail++] = iterationNumber;
+		}
+
+		/**
+		 * Take the next iteration
+		 *
+		 * @return iteration number, starting from 1 for each Examples table, or {@link #NONE} if there are no iterations
+		 */
+		public int poll() {
+			if (head == tail) {
+				return NONE;
+			}
+			int iteration = ++current;
+			if (iteration >= ends[head]) {
+				current = 0;
+				if (++head == tail) {
+					head = 0;
+					tail = 0;
+				}
+			}
+			return iteration;
+		}
+
+		/**
+		 * @return number of iterations which are not started yet
+		 */
+		public int size() {
+			int result = -current;
+			for (int i = head; i < tail; i++) {
+				result += ends[i];
+			}
+			return result;
+		}
+
+		public boolean isEmpty() {
+			return head == tail;
+		}
+
+		/**
+		 * Format an iteration label, which is appended to example scenario names
+		 *
+		 * @param iteration iteration number
+		 * @return the label or null for {@link #NONE}
+		 */
+		@Nullable
+		public static String label(int iteration) {
+			return iteration == NONE ? null : String.format(LABEL_FORMAT, iteration);
+		}
+	}
+
+	/**
+	 * A step which is not reported yet in the passed step summary mode: its start request, logs and result are kept until
+	 * the scenario is finished or the step tree is reported
+	 */
+	public static class PendingStep {
+		private final MaybeSubject<String> id = MaybeSubject.create();
+		private final StartTestItemRQ startRq;
+		private final boolean hook;
+		private final List<LogPipeline.LogEntry> logs = new ArrayList<>();
+		private ItemStatus status;
+		private Date endTime;
+
+		public PendingStep(@Nonnull StartTestItemRQ stepStartRq) {
+			this(stepStartRq, false);
+		}
+
+		/**
+		 * @param itemStartRq step or hook start request
+		 * @param isHook      true if the item groups before or after hooks, false if it's a step
+		 */
+		public PendingStep(@Nonnull StartTestItemRQ itemStartRq, boolean isHook) {
+			startRq = itemStartRq;
+			hook = isHook;
+		}
+
+		/**
+		 * Returns the step ID, which is resolved when the step is reported and completes empty if the step is summarized
+		 *
+		 * @return step ID
+		 */
+		@Nonnull
+		public MaybeSubject<String> getId() {
+			return id;
+		}
+
+		@Nonnull
+		public StartTestItemRQ getStartRq() {
+			return startRq;
+		}
+
+		public boolean isHook() {
+			return hook;
+		}
+
+		@Nonnull
+		public List<LogPipeline.LogEntry> getLogs() {
+			return logs;
+		}
+
+		public void addLog(@Nonnull LogPipeline.LogEntry entry) {
+			logs.add(entry);
+		}
+
+		public void finish(@Nullable ItemStatus stepStatus, @Nonnull Date stepEndTime) {
+			status = stepStatus;
+			endTime = stepEndTime;
+		}
+
+		public boolean isFinished() {
+			return endTime != null;
+		}
+
+		@Nullable
+		public ItemStatus getStatus() {
+			return status;
+		}
+
+		@Nullable
+		public Date getEndTime() {
+			return endTime;
+		}
+	}
+
 	public static class FeatureContext {
 		private final String uri;
+		private final OutlineIterations outlineIterations;
 		private Maybe<String> id;
 		private StartTestItemRQ itemRq;
+		private TestItemTree.TestItemLeaf itemLeaf;
 
 		public FeatureContext(String featureUri) {
 			uri = featureUri;
+			outlineIterations = new OutlineIterations();
+		}
+
+		/**
+		 * Returns iterations of scenario outline examples which are not started yet
+		 *
+		 * @return outline iterations
+		 */
+		@Nonnull
+		public OutlineIterations getOutlineIterations() {
+			return outlineIterations;
 		}
 
 		public void setId(Maybe<String> newId) {
@@ -49,33 +218,131 @@ public class RunningContext {
 		public String getUri() {
 			return uri;
 		}
+
+		/**
+		 * Returns the feature leaf of the callback reporting item tree, to put scenario leaves with no tree lookups
+		 *
+		 * @return the leaf or null if the feature is not in the tree
+		 */
+		@Nullable
+		public TestItemTree.TestItemLeaf getItemLeaf() {
+			return itemLeaf;
+		}
+
+		public void setItemLeaf(@Nullable TestItemTree.TestItemLeaf leaf) {
+			itemLeaf = leaf;
+		}
 	}
 
+	/**
+	 * Scenario context. Contexts are reused: a finished scenario's context is {@link #reset()} and taken by the next
+	 * scenario of the same thread, so a context should not be referenced after its scenario is finished.
+	 */
 	public static class ScenarioContext {
 
+		private static final int DEFAULT_STEP_CAPACITY = 16;
+
 		private boolean inBackground;
 		private String stepPrefix;
 		private Maybe<String> currentStepId;
 		private Maybe<String> hookStepId;
 		private ItemStatus hookStatus;
 
-		private final Queue<Step> steps;
-		private final Queue<String> outlineIterations;
+		/**
+		 * Ring buffer of steps which are not started yet, its length is always a power of two
+		 */
+		private Step[] steps;
+		private int stepHead;
+		private int stepCount;
+		private Queue<String> outlineIterations;
+		private final List<PendingStep> pendingSteps = new ArrayList<>();
+		private boolean stepsReported;
 
 		private Maybe<String> id;
 		private ItemStatus status;
+		private int outlineIteration = OutlineIterations.NONE;
+		private String outlineIterationLabel;
 		private Integer line;
 		private String featureUri;
+		private TestItemTree.TestItemLeaf itemLeaf;
+
+		/**
+		 * The thread the context is bound to and whether it was ever bound to another one, see {@link #bindTo(Thread)}
+		 */
+		private volatile Thread thread;
+		private volatile boolean moved;
 
 		public ScenarioContext() {
 			stepPrefix = "";
-			steps = new ArrayDeque<>();
-			outlineIterations = new ArrayDeque<>();
+			steps = new Step[DEFAULT_STEP_CAPACITY];
+			status = ItemStatus.PASSED;
+		}
+
+		/**
+		 * Bring the context to its initial state to reuse it for another scenario. The step buffer keeps its capacity.
+		 */
+		public void reset() {
+			inBackground = false;
+			stepPrefix = "";
+			currentStepId = null;
+			hookStepId = null;
+			hookStatus = null;
+			while (stepCount > 0) {
+				getNextStep();
+			}
+			stepHead = 0;
+			outlineIterations = null;
+			pendingSteps.clear();
+			stepsReported = false;
+			id = null;
 			status = ItemStatus.PASSED;
+			outlineIteration = OutlineIterations.NONE;
+			outlineIterationLabel = null;
+			line = null;
+			featureUri = null;
+			itemLeaf = null;
+			thread = null;
+		}
+
+		/**
+		 * Bind the context to a thread. A context which was moved from one thread to another one keeps the mark of it, it
+		 * stays referenced by the former thread until the thread drops the binding, so it should not be reused.
+		 *
+		 * @param newThread the thread which reports the scenario
+		 */
+		public void bindTo(@Nonnull Thread newThread) {
+			Thread oldThread = thread;
+			if (oldThread != null && oldThread != newThread) {
+				moved = true;
+			}
+			thread = newThread;
+		}
+
+		/**
+		 * @param checkedThread a thread to check
+		 * @return true if the context is bound to the thread
+		 */
+		public boolean isBoundTo(@Nonnull Thread checkedThread) {
+			return thread == checkedThread;
+		}
+
+		/**
+		 * @return true if the context was ever moved from one thread to another
+		 */
+		public boolean isMoved() {
+			return moved;
 		}
 
+		/**
+		 * @return an empty queue, examples are not tied to a scenario
+		 * @deprecated outline iterations are kept in {@link FeatureContext#getOutlineIterations()}
+		 */
 		@Nonnull
+		@Deprecated
 		public Queue<String> getOutlineIterations() {
+			if (outlineIterations == null) {
+				outlineIterations = new ArrayDeque<>();
+			}
 			return outlineIterations;
 		}
 
@@ -128,15 +395,72 @@ public class RunningContext {
 		}
 
 		public void addStep(Step step) {
-			steps.add(step);
+			if (stepCount == steps.length) {
+				Step[] newSteps = new Step[steps.length * 2];
+				for (int i = 0; i < stepCount; i++) {
+					newSteps[i] = steps[(stepHead + i) & (steps.length - 1)];
+				}
+				steps = newSteps;
+				stepHead = 0;
+			}
+			steps[(stepHead + stepCount) & (steps.length - 1)] = step;
+			stepCount++;
 		}
 
 		public Step getNextStep() {
-			return steps.poll();
+			if (stepCount == 0) {
+				return null;
+			}
+			Step step = steps[stepHead];
+			steps[stepHead] = null;
+			stepHead = (stepHead + 1) & (steps.length - 1);
+			stepCount--;
+			return step;
 		}
 
 		public boolean noMoreSteps() {
-			return steps.isEmpty();
+			return stepCount == 0;
+		}
+
+		/**
+		 * Returns steps which are not reported yet in the passed step summary mode
+		 *
+		 * @return pending steps in their start order
+		 */
+		@Nonnull
+		public List<PendingStep> getPendingSteps() {
+			return pendingSteps;
+		}
+
+		/**
+		 * Returns a pending step by its ID
+		 *
+		 * @param stepId step ID
+		 * @return the step or null if there is no such pending step
+		 */
+		@Nullable
+		public PendingStep getPendingStep(@Nullable Maybe<String> stepId) {
+			if (stepId == null) {
+				return null;
+			}
+			for (int i = pendingSteps.size() - 1; i >= 0; i--) {
+				PendingStep step = pendingSteps.get(i);
+				if (step.getId() == stepId) {
+					return step;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * @return true if the scenario step tree is reported in full, so its steps are not kept pending anymore
+		 */
+		public boolean isStepsReported() {
+			return stepsReported;
+		}
+
+		public void setStepsReported(boolean reported) {
+			stepsReported = reported;
 		}
 
 		public void updateStatus(ItemStatus newStatus) {
@@ -151,6 +475,31 @@ public class RunningContext {
 			return status;
 		}
 
+		/**
+		 * @return outline iteration number of the scenario or {@link OutlineIterations#NONE}
+		 */
+		public int getOutlineIteration() {
+			return outlineIteration;
+		}
+
+		public void setOutlineIteration(int iteration) {
+			outlineIteration = iteration;
+			outlineIterationLabel = null;
+		}
+
+		/**
+		 * Returns outline iteration label of the scenario, the label is formatted on the first call
+		 *
+		 * @return the label or null if the scenario is not an outline example
+		 */
+		@Nullable
+		public String getOutlineIterationLabel() {
+			if (outlineIterationLabel == null) {
+				outlineIterationLabel = OutlineIterations.label(outlineIteration);
+			}
+			return outlineIterationLabel;
+		}
+
 		public Integer getLine() {
 			return line;
 		}
@@ -166,5 +515,19 @@ public class RunningContext {
 		public String getFeatureUri() {
 			return featureUri;
 		}
+
+		/**
+		 * Returns the scenario leaf of the callback reporting item tree, to put step leaves with no tree lookups
+		 *
+		 * @return the leaf or null if the scenario is not in the tree
+		 */
+		@Nullable
+		public TestItemTree.TestItemLeaf getItemLeaf() {
+			return itemLeaf;
+		}
+
+		public void setItemLeaf(@Nullable TestItemTree.TestItemLeaf leaf) {
+			itemLeaf = leaf;
+		}
 	}
 }
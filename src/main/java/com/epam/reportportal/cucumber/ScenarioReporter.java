@@ -25,7 +25,6 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Calendar;
 import java.util.Optional;
 
 /**
@@ -57,9 +56,9 @@ public class ScenarioReporter extends AbstractReporter {
 	protected MemoizingSupplier<Maybe<String>> rootSuiteId = new MemoizingSupplier<>(() -> {
 		StartTestItemRQ rq = new StartTestItemRQ();
 		rq.setName("Root User Story");
-		rq.setStartTime(Calendar.getInstance().getTime());
+		rq.setStartTime(getCurrentTime());
 		rq.setType(RP_STORY_TYPE);
-		return launch.get().startTestItem(rq);
+		return startTestItem(null, rq);
 	});
 
 	@Override
@@ -116,7 +115,8 @@ public class ScenarioReporter extends AbstractReporter {
 
 	@Override
 	protected void afterLaunch() {
-		if (currentFeatureContext.get() == null || currentFeatureContext.get().getId() == null) {
+		// the root suite is started with the first feature
+		if (rootSuiteId == null || !rootSuiteId.isInitialized()) {
 			LOGGER.debug("There is no scenarios in the launch");
 			return;
 		}
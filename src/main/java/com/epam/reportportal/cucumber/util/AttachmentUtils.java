@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import com.epam.reportportal.message.TypeAwareByteSource;
+import com.epam.reportportal.utils.MimeTypeDetector;
+import com.epam.reportportal.utils.files.ByteSource;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Attachment data sources which avoid copying of embedded data.
+ * <p>
+ * Client's {@link ByteSource#wrap(byte[])} copies the data on wrapping and on every read, so an embedding is copied
+ * several times before it is sent. Sources of this class give the original array to the client as is, or keep the data
+ * in a temporary file until the client reads it.
+ */
+public class AttachmentUtils {
+
+	/**
+	 * Number of bytes enough for MIME type detection, the detector does not look further
+	 */
+	public static final int DETECTION_HEADER_SIZE = 1024;
+
+	private static final String SPOOL_FILE_PREFIX = "rp-cucumber-";
+	private static final String SPOOL_FILE_SUFFIX = ".bin";
+	private static final ByteSource EMPTY_SOURCE = ByteSource.wrap(new byte[0]);
+
+	private AttachmentUtils() {
+		//static only
+	}
+
+	private static class ByteArraySource extends TypeAwareByteSource {
+		private final byte[] data;
+		private final int length;
+
+		private ByteArraySource(@Nonnull byte[] sourceData, int sourceLength, String mediaType) {
+			super(EMPTY_SOURCE, mediaType);
+			data = sourceData;
+			length = sourceLength;
+		}
+
+		@Override
+		@Nonnull
+		public InputStream openStream() {
+			return new ByteArrayInputStream(data, 0, length);
+		}
+
+		@Override
+		@Nonnull
+		public byte[] read() {
+			return data;
+		}
+	}
+
+	private static class SpooledSource extends TypeAwareByteSource {
+		private final Path file;
+
+		private SpooledSource(@Nonnull Path spoolFile, String mediaType) {
+			super(EMPTY_SOURCE, mediaType);
+			file = spoolFile;
+		}
+
+		@Override
+		@Nonnull
+		public InputStream openStream() throws IOException {
+			return Files.newInputStream(file);
+		}
+
+		/**
+		 * Read the data and remove the spool file, since the client reads attachment data only once
+		 *
+		 * @return attachment data
+		 * @throws IOException if the file was not read
+		 */
+		@Override
+		@Nonnull
+		public byte[] read() throws IOException {
+			try {
+				return Files.readAllBytes(file);
+			} finally {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	/**
+	 * Detect MIME type of the data looking only at its first {@link #DETECTION_HEADER_SIZE} bytes
+	 *
+	 * @param data data to detect
+	 * @return MIME type
+	 * @throws IOException in case of detection error
+	 */
+	@Nonnull
+	public static String detect(@Nonnull byte[] data) throws IOException {
+		return MimeTypeDetector.detect(new ByteArraySource(data, Math.min(data.length, DETECTION_HEADER_SIZE), null), null);
+	}
+
+	/**
+	 * Wrap the data into a source without copying. The data should not be modified after wrapping.
+	 *
+	 * @param data      data to wrap
+	 * @param mediaType MIME type of the data
+	 * @return data source
+	 */
+	@Nonnull
+	public static TypeAwareByteSource wrap(@Nonnull byte[] data, @Nullable String mediaType) {
+		return new ByteArraySource(data, data.length, mediaType);
+	}
+
+	/**
+	 * Write the data into a temporary file and return a source which reads the data from the file. The file is removed
+	 * when the data is read, or with {@link #discard(ByteSource)}.
+	 *
+	 * @param data      data to spool
+	 * @param mediaType MIME type of the data
+	 * @param directory a directory for the temporary file, or null to use the default temporary directory
+	 * @return data source
+	 * @throws IOException if the file was not written
+	 */
+	@Nonnull
+	public static TypeAwareByteSource spool(@Nonnull byte[] data, @Nullable String mediaType, @Nullable File directory)
+			throws IOException {
+		Path file = directory == null ?
+				Files.createTempFile(SPOOL_FILE_PREFIX, SPOOL_FILE_SUFFIX) :
+				Files.createTempFile(directory.toPath(), SPOOL_FILE_PREFIX, SPOOL_FILE_SUFFIX);
+		try {
+			Files.write(file, data);
+		} catch (IOException e) {
+			Files.deleteIfExists(file);
+			throw e;
+		}
+		return new SpooledSource(file, mediaType);
+	}
+
+	/**
+	 * Release resources held by a source which will not be read
+	 *
+	 * @param source data source
+	 */
+	public static void discard(@Nonnull ByteSource source) {
+		if (source instanceof SpooledSource) {
+			try {
+				Files.deleteIfExists(((SpooledSource) source).file);
+			} catch (IOException ignore) {
+				// the file is in the temporary directory anyway
+			}
+		}
+	}
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import com.epam.reportportal.utils.formatting.MarkdownUtils;
+import gherkin.formatter.model.Row;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.epam.reportportal.utils.formatting.MarkdownUtils.*;
+
+/**
+ * Data table renderer which gives the same output as {@link MarkdownUtils#formatDataTable(List)}, but writes into a
+ * reusable per-thread buffer with no intermediate collections. Tables can be truncated to the given number of rows and
+ * columns, in this case a "N more rows" / "N more columns" line is appended to the table.
+ * <p>
+ * A step's data table is rendered several times during its reporting (parameters, description, log), so the last
+ * rendered table is cached per thread by the identity of its row list, see {@link #render(List)}.
+ */
+public class DataTableRenderer {
+
+	/**
+	 * No limit on the number of rows or columns
+	 */
+	public static final int UNLIMITED = -1;
+
+	/**
+	 * Buffers larger than that are not kept between the calls, in characters
+	 */
+	private static final int MAX_RETAINED_BUFFER = 1024 * 1024;
+
+	private static final char ONE_SPACE_CHAR = ONE_SPACE.charAt(0);
+	private static final char COLUMN_SEPARATOR_CHAR = TABLE_COLUMN_SEPARATOR.charAt(0);
+	private static final char ROW_SEPARATOR_CHAR = TABLE_ROW_SEPARATOR.charAt(0);
+
+	private static final class Rendered {
+		private final List<? extends Row> rows;
+		private final String table;
+
+		private Rendered(List<? extends Row> rows, String table) {
+			this.rows = rows;
+			this.table = table;
+		}
+	}
+
+	private final int maxRows;
+	private final int maxColumns;
+	private final int maxTableSize;
+
+	private final ThreadLocal<StringBuilder> buffer = ThreadLocal.withInitial(StringBuilder::new);
+	private final ThreadLocal<Rendered> lastRendered = new ThreadLocal<>();
+
+	public DataTableRenderer() {
+		this(UNLIMITED, UNLIMITED);
+	}
+
+	/**
+	 * @param maxRows    maximum number of rendered rows including the header, or {@link #UNLIMITED}
+	 * @param maxColumns maximum number of rendered columns, or {@link #UNLIMITED}
+	 */
+	public DataTableRenderer(int maxRows, int maxColumns) {
+		this(maxRows, maxColumns, MAX_TABLE_SIZE);
+	}
+
+	/**
+	 * @param maxRows      maximum number of rendered rows including the header, or {@link #UNLIMITED}
+	 * @param maxColumns   maximum number of rendered columns, or {@link #UNLIMITED}
+	 * @param maxTableSize maximum table width in characters, wider tables are transposed or have their cells shortened
+	 */
+	public DataTableRenderer(int maxRows, int maxColumns, int maxTableSize) {
+		this.maxRows = maxRows;
+		this.maxColumns = maxColumns;
+		this.maxTableSize = maxTableSize;
+	}
+
+	public int getMaxRows() {
+		return maxRows;
+	}
+
+	public int getMaxColumns() {
+		return maxColumns;
+	}
+
+	/**
+	 * Render Gherkin data table rows. The result for the last row list is cached per thread, so repeated calls for the
+	 * same step do not render the table again.
+	 *
+	 * @param rows data table rows
+	 * @return the table in Markdown format
+	 */
+	@Nonnull
+	public String render(@Nonnull List<? extends Row> rows) {
+		Rendered last = lastRendered.get();
+		if (last != null && last.rows == rows) {
+			return last.table;
+		}
+		List<List<String>> table = new ArrayList<>(rows.size());
+		for (Row row : rows) {
+			table.add(row.getCells());
+		}
+		String result = format(table);
+		lastRendered.set(new Rendered(rows, result));
+		return result;
+	}
+
+	/**
+	 * Render a table
+	 *
+	 * @param table table rows
+	 * @return the table in Markdown format
+	 */
+	@Nonnull
+	public String format(@Nonnull List<? extends List<String>> table) {
+		int rowNum = maxRows < 0 ? table.size() : Math.min(maxRows, table.size());
+		int colNum = 0;
+		for (int i = 0; i < rowNum; i++) {
+			colNum = Math.max(colNum, table.get(i).size());
+		}
+		int printColNum = maxColumns < 0 ? colNum : Math.min(maxColumns, colNum);
+
+		int[] colSizes = columnSizes(table, rowNum, printColNum, false);
+		boolean transpose = printColNum > rowNum && tableSize(colSizes) > maxTableSize;
+		if (transpose) {
+			colSizes = columnSizes(table, rowNum, printColNum, true);
+		}
+		colSizes = adjustColumnSizes(colSizes, maxTableSize);
+		boolean addPadding = tableSize(colSizes) <= maxTableSize;
+		int padding = addPadding ? PADDING_SPACES_NUM : 0;
+
+		StringBuilder result = buffer.get();
+		result.setLength(0);
+		if (transpose) {
+			for (int c = 0; c < printColNum; c++) {
+				result.append(TABLE_INDENT).append(COLUMN_SEPARATOR_CHAR);
+				int cellNum = 0;
+				for (int r = 0; r < rowNum; r++) {
+					List<String> row = table.get(r);
+					if (row.size() > c) {
+						appendCell(result, row.get(c), colSizes[cellNum++], padding);
+					}
+				}
+				result.append('\n');
+			}
+		} else {
+			for (int r = 0; r < rowNum; r++) {
+				List<String> row = table.get(r);
+				int cellNum = Math.min(row.size(), printColNum);
+				result.append(TABLE_INDENT).append(COLUMN_SEPARATOR_CHAR);
+				for (int i = 0; i < cellNum; i++) {
+					appendCell(result, row.get(i), colSizes[i], padding);
+				}
+				if (r == 0) {
+					result.append('\n').append(TABLE_INDENT).append(COLUMN_SEPARATOR_CHAR);
+					for (int i = 0; i < cellNum; i++) {
+						appendRepeated(result, ROW_SEPARATOR_CHAR, colSizes[i] + padding);
+						result.append(COLUMN_SEPARATOR_CHAR);
+					}
+				}
+				result.append('\n');
+			}
+		}
+		if (table.size() > rowNum) {
+			result.append(TABLE_INDENT).append(table.size() - rowNum).append(" more rows\n");
+		}
+		if (colNum > printColNum) {
+			result.append(TABLE_INDENT).append(colNum - printColNum).append(" more columns\n");
+		}
+		if (result.length() > 0) {
+			result.setLength(result.length() - 1);
+		}
+		String rendered = result.toString();
+		if (result.capacity() > MAX_RETAINED_BUFFER) {
+			buffer.remove();
+		}
+		return rendered;
+	}
+
+	/**
+	 * Calculate column sizes, for a transposed table the columns are source table rows
+	 */
+	@Nonnull
+	private static int[] columnSizes(@Nonnull List<? extends List<String>> table, int rowNum, int colNum, boolean transpose) {
+		if (!transpose) {
+			int[] sizes = new int[colNum];
+			for (int r = 0; r < rowNum; r++) {
+				List<String> row = table.get(r);
+				int cellNum = Math.min(row.size(), colNum);
+				for (int i = 0; i < cellNum; i++) {
+					sizes[i] = Math.max(sizes[i], row.get(i).length());
+				}
+			}
+			return sizes;
+		}
+		// transposed table row 'c' consists of c-th cells of the source rows, skipping rows which have no such cell
+		int transposedColNum = 0;
+		for (int r = 0; r < rowNum; r++) {
+			if (colNum > 0 && !table.get(r).isEmpty()) {
+				transposedColNum++;
+			}
+		}
+		int[] sizes = new int[transposedColNum];
+		for (int c = 0; c < colNum; c++) {
+			int cellNum = 0;
+			for (int r = 0; r < rowNum; r++) {
+				List<String> row = table.get(r);
+				if (row.size() > c) {
+					sizes[cellNum] = Math.max(sizes[cellNum], row.get(c).length());
+					cellNum++;
+				}
+			}
+		}
+		return sizes;
+	}
+
+	private static int tableSize(@Nonnull int[] colSizes) {
+		if (colSizes.length == 0) {
+			// the same value the client's formatter calculates for an empty table
+			return 0;
+		}
+		int size = 0;
+		for (int colSize : colSizes) {
+			size += colSize;
+		}
+		return size + (PADDING_SPACES_NUM + TABLE_COLUMN_SEPARATOR.length()) * colSizes.length - 1 + 2;
+	}
+
+	/**
+	 * Shrink the widest columns one character at a time until the table fits, the same way the client's formatter does
+	 */
+	@Nonnull
+	private static int[] adjustColumnSizes(@Nonnull int[] colSizes, int maxTableSize) {
+		int tableSize = tableSize(colSizes);
+		if (maxTableSize >= tableSize) {
+			return colSizes;
+		}
+		Integer[] order = new Integer[colSizes.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		// by size descending, then by index descending
+		Arrays.sort(order, (a, b) -> colSizes[a] != colSizes[b] ? Integer.compare(colSizes[b], colSizes[a]) : Integer.compare(b, a));
+		int[] sizes = new int[order.length];
+		for (int i = 0; i < order.length; i++) {
+			sizes[i] = colSizes[order[i]];
+		}
+		int sizeToShrink = tableSize - maxTableSize;
+		for (int i = 0; i < sizeToShrink; i++) {
+			for (int j = 0; j < sizes.length; j++) {
+				int current = sizes[j];
+				if (current <= MIN_COL_SIZE) {
+					continue;
+				}
+				int next = j + 1 < sizes.length ? sizes[j + 1] : 0;
+				if (current < next) {
+					continue;
+				}
+				sizes[j] = current - 1;
+				break;
+			}
+		}
+		int[] result = new int[sizes.length];
+		for (int i = 0; i < order.length; i++) {
+			result[order[i]] = sizes[i];
+		}
+		return result;
+	}
+
+	private static void appendCell(@Nonnull StringBuilder result, @Nonnull String cell, int colSize, int padding) {
+		boolean truncate = colSize < cell.length();
+		int padSize = colSize - (truncate ? colSize : cell.length()) + padding;
+		int lSpace = padSize / 2;
+		appendRepeated(result, ONE_SPACE_CHAR, lSpace);
+		if (truncate) {
+			if (TRUNCATION_REPLACEMENT.length() < colSize) {
+				result.append(cell, 0, colSize - TRUNCATION_REPLACEMENT.length()).append(TRUNCATION_REPLACEMENT);
+			} else {
+				result.append(cell, 0, colSize);
+			}
+		} else {
+			result.append(cell);
+		}
+		appendRepeated(result, ONE_SPACE_CHAR, padSize - lSpace);
+		result.append(COLUMN_SEPARATOR_CHAR);
+	}
+
+	private static void appendRepeated(@Nonnull StringBuilder result, char c, int times) {
+		for (int i = 0; i < times; i++) {
+			result.append(c);
+		}
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import io.reactivex.Maybe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded window of item requests (starts and finishes) which are sent to Report Portal, but are not completed yet.
+ * <p>
+ * The client queues requests without a limit, so if Report Portal slows down or is unavailable the queue grows until
+ * the heap is exhausted. With the window a test thread waits before sending an item request while the window is full,
+ * up to the given time, after which the request is sent anyway, so a stalled Report Portal slows tests down, but never
+ * hangs them. After such a timeout the window overflows: requests are sent without waiting until a request in the window
+ * completes, so a stalled Report Portal costs one wait, not a wait per request. A permit is released when the request
+ * completes, successfully or not.
+ * <p>
+ * Logs and attachments are not tracked by the window, since the client does not expose their completion, but with
+ * {@link Strategy#SHED_LOGS} they are dropped while the window is full, to save the heap for item requests.
+ */
+public class InFlightWindow {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(InFlightWindow.class);
+
+	public static final long DEFAULT_MAX_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+	/**
+	 * What to do with logs while the window is full
+	 */
+	public enum Strategy {
+		/**
+		 * Send logs as usual, only item requests wait for the window
+		 */
+		BLOCK,
+		/**
+		 * Drop logs and attachments while the window is full
+		 */
+		SHED_LOGS
+	}
+
+	private final int size;
+	private final Strategy strategy;
+	private final long maxWaitNanos;
+	private final Semaphore permits;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+	private final AtomicLong blocked = new AtomicLong();
+	private final AtomicLong blockedNanos = new AtomicLong();
+	private final AtomicLong overflows = new AtomicLong();
+	private final AtomicLong shedLogs = new AtomicLong();
+
+	private volatile boolean overflowed;
+
+	public InFlightWindow(int windowSize, @Nonnull Strategy fullWindowStrategy) {
+		this(windowSize, fullWindowStrategy, DEFAULT_MAX_WAIT_MILLIS);
+	}
+
+	/**
+	 * @param windowSize         maximum number of item requests in flight
+	 * @param fullWindowStrategy what to do with logs while the window is full
+	 * @param maxWaitMillis      maximum time to wait for the window, after that a request is sent above the limit
+	 */
+	public InFlightWindow(int windowSize, @Nonnull Strategy fullWindowStrategy, long maxWaitMillis) {
+		if (windowSize <= 0 || maxWaitMillis < 0) {
+			throw new IllegalArgumentException("Window size should be a positive number, wait time should not be negative");
+		}
+		size = windowSize;
+		strategy = fullWindowStrategy;
+		maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+		permits = new Semaphore(windowSize);
+	}
+
+	private boolean acquire() {
+		if (permits.tryAcquire()) {
+			overflowed = false;
+			return true;
+		}
+		if (overflowed) {
+			// the window has already timed out and nothing in it has completed since then, do not wait again
+			overflows.incrementAndGet();
+			return false;
+		}
+		blocked.incrementAndGet();
+		long startTime = System.nanoTime();
+		boolean acquired = false;
+		try {
+			acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			blockedNanos.addAndGet(System.nanoTime() - startTime);
+		}
+		if (acquired) {
+			overflowed = false;
+		} else {
+			overflowed = true;
+			overflows.incrementAndGet();
+			LOGGER.warn("Report Portal requests are not completed in time, {} item requests are in flight", inFlight.get());
+		}
+		return acquired;
+	}
+
+	/**
+	 * Wait for the window, send an item request and release the window on the request completion
+	 *
+	 * @param request sends the request
+	 * @param <T>     response type
+	 * @return the request response, as returned by the request supplier, or an empty Maybe if the supplier returned null
+	 */
+	@Nonnull
+	public <T> Maybe<T> send(@Nonnull Supplier<Maybe<T>> request) {
+		// a request sent above the limit after the wait timeout does not hold a permit
+		boolean permitted = acquire();
+		int current = inFlight.incrementAndGet();
+		maxInFlight.accumulateAndGet(current, Math::max);
+		AtomicBoolean released = new AtomicBoolean();
+		Runnable release = () -> {
+			if (released.compareAndSet(false, true)) {
+				inFlight.decrementAndGet();
+				if (permitted) {
+					permits.release();
+				}
+			}
+		};
+		Maybe<T> response;
+		try {
+			response = request.get();
+		} catch (RuntimeException e) {
+			release.run();
+			throw e;
+		}
+		if (response == null) {
+			release.run();
+			return Maybe.empty();
+		}
+		//noinspection ResultOfMethodCallIgnored
+		response.subscribe(r -> release.run(), e -> release.run(), release::run);
+		return response;
+	}
+
+	/**
+	 * Check if a log should be dropped, and count it as shed if so
+	 *
+	 * @return true if the log should not be sent
+	 */
+	public boolean shedLog() {
+		if (strategy != Strategy.SHED_LOGS || inFlight.get() < size) {
+			return false;
+		}
+		shedLogs.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * @return current number of item requests in flight
+	 */
+	public int getInFlightCount() {
+		return inFlight.get();
+	}
+
+	/**
+	 * @return maximum observed number of item requests in flight
+	 */
+	public int getMaxInFlightCount() {
+		return maxInFlight.get();
+	}
+
+	/**
+	 * @return number of item requests which waited for the window
+	 */
+	public long getBlockedCount() {
+		return blocked.get();
+	}
+
+	/**
+	 * @return total time test threads waited for the window, in nanoseconds
+	 */
+	public long getBlockedTime() {
+		return blockedNanos.get();
+	}
+
+	/**
+	 * @return true if the window has timed out and requests are sent without waiting until a request in it completes
+	 */
+	public boolean isOverflowed() {
+		return overflowed;
+	}
+
+	/**
+	 * @return number of item requests sent above the limit after the wait timeout
+	 */
+	public long getOverflowCount() {
+		return overflows.get();
+	}
+
+	/**
+	 * @return number of dropped logs and attachments
+	 */
+	public long getShedLogCount() {
+		return shedLogs.get();
+	}
+}
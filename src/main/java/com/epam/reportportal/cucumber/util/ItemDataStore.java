@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import io.reactivex.Maybe;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded store of test item data (description and error) which is necessary to build a finish request of the item.
+ * <p>
+ * An item entry is expected to be removed with {@link #remove(Maybe)} as soon as the item is finished. If items are not
+ * finished for some reason the store never grows above its capacity: extra entries are evicted according to the
+ * {@link EvictionPolicy}.
+ */
+public class ItemDataStore {
+
+	public static final int DEFAULT_CAPACITY = 10000;
+
+	/**
+	 * Defines which entry is removed when the store is full
+	 */
+	public enum EvictionPolicy {
+		/**
+		 * Evict the entry which was added first
+		 */
+		OLDEST_FIRST,
+		/**
+		 * Evict the entry which was not touched for the longest time
+		 */
+		LEAST_RECENTLY_USED
+	}
+
+	private static class Entry {
+		private String description;
+		private Throwable error;
+	}
+
+	private final int capacity;
+	private final EvictionPolicy evictionPolicy;
+	private final Map<Maybe<String>, Entry> entries;
+	private final AtomicLong evictions = new AtomicLong();
+
+	public ItemDataStore() {
+		this(DEFAULT_CAPACITY, EvictionPolicy.OLDEST_FIRST);
+	}
+
+	public ItemDataStore(int storeCapacity, @Nonnull EvictionPolicy policy) {
+		if (storeCapacity <= 0) {
+			throw new IllegalArgumentException("Store capacity should be a positive number: " + storeCapacity);
+		}
+		capacity = storeCapacity;
+		evictionPolicy = policy;
+		entries = new LinkedHashMap<Maybe<String>, Entry>(16, 0.75f, policy == EvictionPolicy.LEAST_RECENTLY_USED) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Maybe<String>, Entry> eldest) {
+				if (size() > capacity) {
+					evictions.incrementAndGet();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	@Nonnull
+	private Entry getOrCreate(@Nonnull Maybe<String> itemId) {
+		return entries.computeIfAbsent(itemId, k -> new Entry());
+	}
+
+	/**
+	 * Remember a description of an item
+	 *
+	 * @param itemId      an ID of the item
+	 * @param description the description
+	 */
+	public synchronized void putDescription(@Nullable Maybe<String> itemId, @Nullable String description) {
+		if (itemId == null) {
+			return;
+		}
+		getOrCreate(itemId).description = description;
+	}
+
+	/**
+	 * Remember an error of an item
+	 *
+	 * @param itemId an ID of the item
+	 * @param error  the error
+	 */
+	public synchronized void putError(@Nullable Maybe<String> itemId, @Nullable Throwable error) {
+		if (itemId == null || error == null) {
+			return;
+		}
+		getOrCreate(itemId).error = error;
+	}
+
+	/**
+	 * Return remembered description of an item
+	 *
+	 * @param itemId an ID of the item
+	 * @return the description or null if there is no such
+	 */
+	@Nullable
+	public synchronized String getDescription(@Nullable Maybe<String> itemId) {
+		Entry entry = itemId == null ? null : entries.get(itemId);
+		return entry == null ? null : entry.description;
+	}
+
+	/**
+	 * Return remembered error of an item
+	 *
+	 * @param itemId an ID of the item
+	 * @return the error or null if there is no such
+	 */
+	@Nullable
+	public synchronized Throwable getError(@Nullable Maybe<String> itemId) {
+		Entry entry = itemId == null ? null : entries.get(itemId);
+		return entry == null ? null : entry.error;
+	}
+
+	/**
+	 * Forget everything about an item
+	 *
+	 * @param itemId an ID of the item
+	 */
+	public synchronized void remove(@Nullable Maybe<String> itemId) {
+		if (itemId != null) {
+			entries.remove(itemId);
+		}
+	}
+
+	/**
+	 * @return current number of items in the store
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return number of items which were evicted from the store because of its capacity
+	 */
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	@Nonnull
+	public EvictionPolicy getEvictionPolicy() {
+		return evictionPolicy;
+	}
+}
@@ -19,6 +19,7 @@ package com.epam.reportportal.cucumber.util;
 import com.epam.reportportal.service.tree.TestItemTree;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static java.util.Optional.ofNullable;
 
@@ -27,6 +28,13 @@ import static java.util.Optional.ofNullable;
  */
 public class ItemTreeUtils {
 
+	/**
+	 * Keys of line numbers are immutable and created for each scenario and callback lookup, so the keys of the first
+	 * lines of feature files are cached
+	 */
+	private static final int CACHED_LINE_KEYS = 4096;
+	private static final AtomicReferenceArray<TestItemTree.ItemTreeKey> LINE_KEYS = new AtomicReferenceArray<>(CACHED_LINE_KEYS);
+
 	private ItemTreeUtils() {
 		//static only
 	}
@@ -36,7 +44,15 @@ public class ItemTreeUtils {
 	}
 
 	public static TestItemTree.ItemTreeKey createKey(int lineNumber) {
-		return TestItemTree.ItemTreeKey.of(String.valueOf(lineNumber));
+		if (lineNumber < 0 || lineNumber >= CACHED_LINE_KEYS) {
+			return TestItemTree.ItemTreeKey.of(String.valueOf(lineNumber));
+		}
+		TestItemTree.ItemTreeKey key = LINE_KEYS.get(lineNumber);
+		if (key == null) {
+			key = TestItemTree.ItemTreeKey.of(String.valueOf(lineNumber));
+			LINE_KEYS.lazySet(lineNumber, key);
+		}
+		return key;
 	}
 
 	public static Optional<TestItemTree.TestItemLeaf> retrieveLeaf(String featureUri, TestItemTree testItemTree) {
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Uploads a {@link ReportJournal} to Report Portal: replays the recorded events through a launch, which is created from
+ * the recorded launch start request.
+ * <p>
+ * Independent subtrees of the item tree are uploaded concurrently. They are rooted at the first level of the tree which
+ * has more than one item, usually features. Items above that level are started before the subtrees and finished after
+ * them, events of a subtree are replayed in their recorded order, so parents are always started before their children
+ * and every item's events keep their time order. A subtree upload is complete when Report Portal responds to all its
+ * item finishes, so the parallelism bounds the number of subtrees in flight.
+ * <p>
+ * The uploader can be run as a standalone application to upload a journal kept on disk, in this case Report Portal
+ * connection parameters are taken from the standard sources, e.g. {@code reportportal.properties} file:
+ * <pre>{@code
+ * java -cp <classpath> com.epam.reportportal.cucumber.util.JournalUploader <journal file> [parallelism]
+ * }</pre>
+ */
+public class JournalUploader {
+	private static final Logger LOGGER = LoggerFactory.getLogger(JournalUploader.class);
+
+	public static final int DEFAULT_PARALLELISM = 4;
+
+	private final Function<StartLaunchRQ, Launch> launchFactory;
+	private final int parallelism;
+
+	/**
+	 * @param launchFactory creates a launch for the recorded start request, e.g. {@code reportPortal::newLaunch}
+	 */
+	public JournalUploader(@Nonnull Function<StartLaunchRQ, Launch> launchFactory) {
+		this(launchFactory, DEFAULT_PARALLELISM);
+	}
+
+	/**
+	 * @param launchFactory creates a launch for the recorded start request, e.g. {@code reportPortal::newLaunch}
+	 * @param parallelism   maximum number of subtrees uploaded concurrently
+	 */
+	public JournalUploader(@Nonnull Function<StartLaunchRQ, Launch> launchFactory, int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism should be positive: " + parallelism);
+		}
+		this.launchFactory = launchFactory;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Upload a journal
+	 *
+	 * @param journal journal file
+	 * @return the launch the journal was uploaded to, or null if the journal has no launch start event
+	 * @throws IOException in case of a journal read error
+	 */
+	@Nullable
+	public Launch upload(@Nonnull File journal) throws IOException {
+		List<ReportJournal.Event> events = new ArrayList<>();
+		ReportJournal.read(journal, events::add);
+		LOGGER.debug("{} events read from the journal {}", events.size(), journal);
+		return upload(events);
+	}
+
+	/**
+	 * Upload journal events
+	 *
+	 * @param events events in their recorded order
+	 * @return the launch the events were uploaded to, or null if there is no launch start event
+	 */
+	@Nullable
+	public Launch upload(@Nonnull List<ReportJournal.Event> events) {
+		if (events.isEmpty() || events.get(0).getType() != ReportJournal.EventType.START_LAUNCH) {
+			LOGGER.warn("The journal has no launch start, nothing to upload");
+			return null;
+		}
+		Map<String, String> subtrees = getSubtrees(events);
+		List<ReportJournal.Event> spine = new ArrayList<>();
+		Map<String, List<ReportJournal.Event>> subtreeEvents = new LinkedHashMap<>();
+		for (ReportJournal.Event event : events.subList(1, events.size())) {
+			String subtree = event.getItemId() == null ? null : subtrees.get(event.getItemId());
+			if (subtree == null) {
+				spine.add(event);
+			} else {
+				subtreeEvents.computeIfAbsent(subtree, k -> new ArrayList<>()).add(event);
+			}
+		}
+
+		Launch launch = launchFactory.apply(events.get(0).getRequest());
+		launch.start();
+		Map<String, Maybe<String>> ids = new ConcurrentHashMap<>();
+		// items above the subtrees are started first and finished last
+		List<ReportJournal.Event> deferred = new ArrayList<>();
+		for (ReportJournal.Event event : spine) {
+			if (event.getType() == ReportJournal.EventType.START_ITEM || event.getType() == ReportJournal.EventType.LOG) {
+				//noinspection ReactiveStreamsUnusedPublisher
+				replay(launch, ids, event);
+			} else {
+				deferred.add(event);
+			}
+		}
+		uploadSubtrees(launch, ids, subtreeEvents.values());
+		boolean finished = false;
+		for (ReportJournal.Event event : deferred) {
+			//noinspection ReactiveStreamsUnusedPublisher
+			replay(launch, ids, event);
+			finished |= event.getType() == ReportJournal.EventType.FINISH_LAUNCH;
+		}
+		if (!finished) {
+			LOGGER.warn("The journal has no launch finish, probably the run was interrupted");
+			FinishExecutionRQ rq = new FinishExecutionRQ();
+			rq.setEndTime(getLastEventTime(events));
+			launch.finish(rq);
+		}
+		return launch;
+	}
+
+	/**
+	 * Returns the time of the latest recorded event, so an interrupted run is finished when it stopped, not when its
+	 * journal is uploaded
+	 */
+	@Nonnull
+	private static Date getLastEventTime(@Nonnull List<ReportJournal.Event> events) {
+		Date last = null;
+		for (ReportJournal.Event event : events) {
+			Date time;
+			switch (event.getType()) {
+				case START_LAUNCH:
+					time = event.<StartLaunchRQ>getRequest().getStartTime();
+					break;
+				case START_ITEM:
+					time = event.<StartTestItemRQ>getRequest().getStartTime();
+					break;
+				case FINISH_ITEM:
+					time = event.<FinishTestItemRQ>getRequest().getEndTime();
+					break;
+				case LOG:
+					time = event.<SaveLogRQ>getRequest().getLogTime();
+					break;
+				default:
+					time = null;
+			}
+			if (time != null && (last == null || time.after(last))) {
+				last = time;
+			}
+		}
+		return last == null ? new Date() : last;
+	}
+
+	/**
+	 * Map items to their subtree roots, items above the subtree level are not mapped
+	 */
+	@Nonnull
+	private static Map<String, String> getSubtrees(@Nonnull List<ReportJournal.Event> events) {
+		Map<String, Integer> depths = new HashMap<>();
+		Map<Integer, Integer> levelSizes = new HashMap<>();
+		for (ReportJournal.Event event : events) {
+			if (event.getType() == ReportJournal.EventType.START_ITEM) {
+				int depth = event.getParentId() == null ? 0 : depths.getOrDefault(event.getParentId(), -1) + 1;
+				depths.put(event.getItemId(), depth);
+				levelSizes.merge(depth, 1, Integer::sum);
+			}
+		}
+		int subtreeLevel = levelSizes.entrySet()
+				.stream()
+				.filter(e -> e.getValue() > 1)
+				.mapToInt(Map.Entry::getKey)
+				.min()
+				.orElse(Integer.MAX_VALUE);
+		Map<String, String> result = new HashMap<>();
+		for (ReportJournal.Event event : events) {
+			if (event.getType() == ReportJournal.EventType.START_ITEM) {
+				int depth = depths.get(event.getItemId());
+				if (depth == subtreeLevel) {
+					result.put(event.getItemId(), event.getItemId());
+				} else if (depth > subtreeLevel) {
+					result.put(event.getItemId(), result.get(event.getParentId()));
+				}
+			}
+		}
+		return result;
+	}
+
+	private void uploadSubtrees(@Nonnull Launch launch, @Nonnull Map<String, Maybe<String>> ids,
+			@Nonnull Collection<List<ReportJournal.Event>> subtrees) {
+		if (parallelism == 1 || subtrees.size() <= 1) {
+			subtrees.forEach(events -> uploadSubtree(launch, ids, events));
+			return;
+		}
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, subtrees.size()), r -> {
+			Thread thread = new Thread(r, "rp-cucumber-journal-upload-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<?>> futures = new ArrayList<>(subtrees.size());
+			for (List<ReportJournal.Event> events : subtrees) {
+				futures.add(executor.submit(() -> uploadSubtree(launch, ids, events)));
+			}
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					LOGGER.error("Unable to upload a journal subtree", e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.warn("Journal upload was interrupted");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Replay events of a subtree and wait for responses to its item finishes
+	 */
+	private static void uploadSubtree(@Nonnull Launch launch, @Nonnull Map<String, Maybe<String>> ids,
+			@Nonnull List<ReportJournal.Event> events) {
+		List<Maybe<?>> finishes = new ArrayList<>();
+		for (ReportJournal.Event event : events) {
+			ofNullable(replay(launch, ids, event)).ifPresent(finishes::add);
+		}
+		for (Maybe<?> finish : finishes) {
+			try {
+				finish.blockingGet();
+			} catch (RuntimeException e) {
+				LOGGER.warn("Unable to finish a journal item", e);
+			}
+		}
+	}
+
+	/**
+	 * Replay an event
+	 *
+	 * @return response of an item finish or null for other events
+	 */
+	@Nullable
+	private static Maybe<?> replay(@Nonnull Launch launch, @Nonnull Map<String, Maybe<String>> ids, @Nonnull ReportJournal.Event event) {
+		switch (event.getType()) {
+			case START_ITEM:
+				StartTestItemRQ startRq = event.getRequest();
+				Maybe<String> parentId = event.getParentId() == null ? null : ids.get(event.getParentId());
+				ids.put(event.getItemId(), parentId == null ? launch.startTestItem(startRq) : launch.startTestItem(parentId, startRq));
+				break;
+			case FINISH_ITEM:
+				FinishTestItemRQ finishRq = event.getRequest();
+				// the ID is kept for logs recorded after the item finish, the map is dropped with the upload
+				Maybe<String> itemId = ids.get(event.getItemId());
+				if (itemId == null) {
+					LOGGER.warn("Skipping finish of unknown journal item {}", event.getItemId());
+					return null;
+				}
+				return launch.finishTestItem(itemId, finishRq);
+			case LOG:
+				SaveLogRQ logRq = event.getRequest();
+				if (event.getItemId() == null) {
+					launch.log(launchUuid -> {
+						logRq.setLaunchUuid(launchUuid);
+						return logRq;
+					});
+				} else {
+					Maybe<String> logItemId = ids.get(event.getItemId());
+					if (logItemId == null) {
+						LOGGER.warn("Skipping log of unknown journal item {}", event.getItemId());
+						return null;
+					}
+					launch.log(logItemId, itemUuid -> {
+						logRq.setItemUuid(itemUuid);
+						return logRq;
+					});
+				}
+				break;
+			case FINISH_LAUNCH:
+				FinishExecutionRQ finishLaunchRq = event.getRequest();
+				launch.finish(finishLaunchRq);
+				break;
+			default:
+				LOGGER.warn("Unexpected journal event {}", event.getType());
+		}
+		return null;
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1 || args.length > 2) {
+			System.err.println("Usage: JournalUploader <journal file> [parallelism]");
+			System.exit(1);
+		}
+		int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PARALLELISM;
+		ReportPortal reportPortal = ReportPortal.builder().build();
+		Launch launch = new JournalUploader(reportPortal::newLaunch, parallelism).upload(new File(args[0]));
+		if (launch == null) {
+			System.exit(1);
+		}
+	}
+}
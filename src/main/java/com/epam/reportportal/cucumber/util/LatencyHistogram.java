@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with power-of-two buckets. A value is counted in the bucket of its highest set bit, so
+ * percentiles are reported with the precision of 2x, which is enough to tell microseconds from milliseconds.
+ */
+public class LatencyHistogram {
+	private static final int BUCKET_NUMBER = Long.SIZE + 1;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_NUMBER);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong total = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	private static int bucket(long value) {
+		return Long.SIZE - Long.numberOfLeadingZeros(value);
+	}
+
+	/**
+	 * Record a value
+	 *
+	 * @param value the value, negative values are counted as zero
+	 */
+	public void record(long value) {
+		long v = Math.max(value, 0);
+		buckets.incrementAndGet(bucket(v));
+		count.incrementAndGet();
+		total.addAndGet(v);
+		long currentMax = max.get();
+		while (v > currentMax && !max.compareAndSet(currentMax, v)) {
+			currentMax = max.get();
+		}
+	}
+
+	public long getCount() {
+		return count.get();
+	}
+
+	public long getTotal() {
+		return total.get();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	public long getMean() {
+		long c = count.get();
+		return c == 0 ? 0 : total.get() / c;
+	}
+
+	/**
+	 * Returns an upper bound of the value below which the given percent of recorded values fall
+	 *
+	 * @param percentile percentile, from 0 to 100
+	 * @return the value upper bound, or 0 if nothing is recorded
+	 */
+	public long getPercentile(double percentile) {
+		long c = count.get();
+		if (c == 0) {
+			return 0;
+		}
+		long threshold = Math.max(1, (long) Math.ceil(c * percentile / 100));
+		long accumulated = 0;
+		for (int i = 0; i < BUCKET_NUMBER; i++) {
+			accumulated += buckets.get(i);
+			if (accumulated >= threshold) {
+				long upperBound = i == 0 ? 0 : (i >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << i) - 1);
+				return Math.min(upperBound, max.get());
+			}
+		}
+		return max.get();
+	}
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import io.reactivex.Maybe;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Collapses repeated log entries of an item into one entry with a repeat count and interns log messages across the
+ * launch.
+ * <p>
+ * Entries are buffered per item, so an item which logs from several threads, e.g. a scenario moved to another thread,
+ * still gets its entries collapsed and sent together. The buffer is flushed when the item is finished (see
+ * {@link #flush(Maybe)}), when the launch is closed (see {@link #flush()}) or when the buffer is full. Each distinct
+ * message and level is sent once, with the time of its first occurrence, in the order of the first occurrences. Repeated
+ * messages get a repeat count suffix.
+ * <p>
+ * Messages are interned by their content hash, so the same hook location, error message or step argument is held once
+ * in the heap, however many items log it. The number of interned messages is limited, messages above the limit are
+ * used as is.
+ */
+public class LogDeduplicator {
+
+	public static final int DEFAULT_BUFFER_SIZE = 256;
+	public static final int DEFAULT_INTERN_CAPACITY = 4096;
+
+	private static final String REPEAT_FORMAT = "%s\n[repeated %d times]";
+
+	private static final class Key {
+		private final String level;
+		private final String message;
+		private final int hash;
+
+		private Key(@Nonnull String logLevel, @Nullable String logMessage) {
+			level = logLevel;
+			message = logMessage;
+			hash = 31 * level.hashCode() + (message == null ? 0 : message.hashCode());
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) o;
+			// interned messages are compared by reference first
+			return hash == key.hash && level.equals(key.level) && (message == key.message || (message != null && message.equals(
+					key.message)));
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private static final class Repeat {
+		private final LogPipeline.LogEntry first;
+		private int count = 1;
+
+		private Repeat(@Nonnull LogPipeline.LogEntry entry) {
+			first = entry;
+		}
+	}
+
+	private static final class Buffer {
+		private final Map<Key, Repeat> entries = new LinkedHashMap<>();
+		// set under the buffer lock once the buffer is removed, entries should go to a new buffer after that
+		private boolean flushed;
+	}
+
+	private final int bufferSize;
+	private final int internCapacity;
+	private final Consumer<LogPipeline.LogEntry> consumer;
+	private final Map<Maybe<String>, Buffer> buffers = new ConcurrentHashMap<>();
+	private final Map<String, String> interned = new ConcurrentHashMap<>();
+
+	private final AtomicLong collapsed = new AtomicLong();
+	private final AtomicLong internHits = new AtomicLong();
+
+	public LogDeduplicator(@Nonnull Consumer<LogPipeline.LogEntry> entryConsumer) {
+		this(DEFAULT_BUFFER_SIZE, DEFAULT_INTERN_CAPACITY, entryConsumer);
+	}
+
+	/**
+	 * @param maxBufferSize maximum number of distinct entries buffered per item
+	 * @param maxInterned   maximum number of interned messages, 0 to disable interning
+	 * @param entryConsumer receives collapsed entries
+	 */
+	public LogDeduplicator(int maxBufferSize, int maxInterned, @Nonnull Consumer<LogPipeline.LogEntry> entryConsumer) {
+		if (maxBufferSize <= 0 || maxInterned < 0) {
+			throw new IllegalArgumentException("Buffer size should be a positive number, intern capacity should not be negative");
+		}
+		bufferSize = maxBufferSize;
+		internCapacity = maxInterned;
+		consumer = entryConsumer;
+	}
+
+	/**
+	 * Return an interned instance of the message
+	 *
+	 * @param message log message
+	 * @return the same message, shared across the launch
+	 */
+	@Nullable
+	public String intern(@Nullable String message) {
+		if (message == null || internCapacity == 0) {
+			return message;
+		}
+		String result = interned.get(message);
+		if (result != null) {
+			internHits.incrementAndGet();
+			return result;
+		}
+		if (interned.size() >= internCapacity) {
+			return message;
+		}
+		result = interned.putIfAbsent(message, message);
+		return result == null ? message : result;
+	}
+
+	/**
+	 * Buffer a log entry, the entry is handed to the consumer on flush
+	 *
+	 * @param entry log entry
+	 */
+	public void log(@Nonnull LogPipeline.LogEntry entry) {
+		String message = intern(entry.getMessage());
+		Key key = new Key(entry.getLevel(), message);
+		while (true) {
+			Buffer buffer = buffers.computeIfAbsent(entry.getItemId(), k -> new Buffer());
+			synchronized (buffer) {
+				if (buffer.flushed) {
+					// the item was flushed concurrently, retry with a new buffer
+					continue;
+				}
+				if (buffer.entries.size() >= bufferSize) {
+					send(buffer);
+				}
+				Repeat repeat = buffer.entries.get(key);
+				if (repeat == null) {
+					LogPipeline.LogEntry internedEntry = message == entry.getMessage() ?
+							entry :
+							new LogPipeline.LogEntry(entry.getItemId(), entry.getLevel(), entry.getTime(), message);
+					buffer.entries.put(key, new Repeat(internedEntry));
+				} else {
+					repeat.count++;
+					collapsed.incrementAndGet();
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Hand all entries buffered for the item to the consumer, whichever thread logged them
+	 *
+	 * @param itemId an ID of the item
+	 */
+	public void flush(@Nonnull Maybe<String> itemId) {
+		Buffer buffer = buffers.remove(itemId);
+		if (buffer == null) {
+			return;
+		}
+		synchronized (buffer) {
+			buffer.flushed = true;
+			send(buffer);
+		}
+	}
+
+	/**
+	 * Hand all buffered entries of all items to the consumer
+	 */
+	public void flush() {
+		new ArrayList<>(buffers.keySet()).forEach(this::flush);
+	}
+
+	private void send(@Nonnull Buffer buffer) {
+		if (buffer.entries.isEmpty()) {
+			return;
+		}
+		List<Repeat> repeats = new ArrayList<>(buffer.entries.values());
+		buffer.entries.clear();
+		for (Repeat repeat : repeats) {
+			LogPipeline.LogEntry entry = repeat.first;
+			if (repeat.count > 1) {
+				String message = String.format(REPEAT_FORMAT, entry.getMessage(), repeat.count);
+				entry = new LogPipeline.LogEntry(entry.getItemId(), entry.getLevel(), entry.getTime(), message);
+			}
+			consumer.accept(entry);
+		}
+	}
+
+	/**
+	 * @return number of log entries collapsed into previous ones
+	 */
+	public long getCollapsedCount() {
+		return collapsed.get();
+	}
+
+	/**
+	 * @return number of messages replaced with their interned instances
+	 */
+	public long getInternHitCount() {
+		return internHits.get();
+	}
+
+	/**
+	 * @return number of interned messages
+	 */
+	public int getInternedCount() {
+		return interned.size();
+	}
+}
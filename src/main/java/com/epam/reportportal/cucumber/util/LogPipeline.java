@@ -0,0 +1,317 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous log emission pipeline. Test threads put log entries into a bounded queue, a separate drain thread takes
+ * them in batches and hands them to a consumer, which passes them to the client.
+ * <p>
+ * The timestamp and the item ID of a log entry are captured at the call site, so a log entry is bound to the item which
+ * was current when the entry was created, regardless of the time the entry is actually sent.
+ */
+public class LogPipeline implements Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(LogPipeline.class);
+
+	public static final int DEFAULT_CAPACITY = 8192;
+	public static final int DEFAULT_BATCH_SIZE = 128;
+	public static final int DEFAULT_SAMPLE_RATE = 10;
+	public static final long DEFAULT_FLUSH_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+
+	private static final long POLL_TIMEOUT = 100;
+
+	/**
+	 * Defines what to do with a log entry if the pipeline queue is full
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * Wait until there is free space in the queue
+		 */
+		BLOCK,
+		/**
+		 * Drop the oldest entry in the queue to put the new one
+		 */
+		DROP_OLDEST,
+		/**
+		 * Drop new entries, but keep every N-th of them instead of the oldest entry in the queue
+		 */
+		SAMPLE
+	}
+
+	/**
+	 * Log entry, captured at the call site
+	 */
+	public static class LogEntry {
+		private final Maybe<String> itemId;
+		private final String level;
+		private final long time;
+		private final String message;
+
+		public LogEntry(@Nonnull Maybe<String> logItemId, @Nonnull String logLevel, long logTime, String logMessage) {
+			itemId = logItemId;
+			level = logLevel;
+			time = logTime;
+			message = logMessage;
+		}
+
+		@Nonnull
+		public Maybe<String> getItemId() {
+			return itemId;
+		}
+
+		@Nonnull
+		public String getLevel() {
+			return level;
+		}
+
+		public long getTime() {
+			return time;
+		}
+
+		public String getMessage() {
+			return message;
+		}
+
+		/**
+		 * Convert the entry into a log request
+		 *
+		 * @param itemUuid an ID of the item to which the log belongs
+		 * @return log request
+		 */
+		@Nonnull
+		public SaveLogRQ toSaveLogRq(@Nonnull String itemUuid) {
+			SaveLogRQ rq = new SaveLogRQ();
+			rq.setItemUuid(itemUuid);
+			rq.setLevel(level);
+			rq.setLogTime(new Date(time));
+			rq.setMessage(message);
+			return rq;
+		}
+	}
+
+	private final BlockingQueue<LogEntry> queue;
+	private final int batchSize;
+	private final OverflowPolicy overflowPolicy;
+	private final int sampleRate;
+	private final Consumer<List<LogEntry>> consumer;
+	private final Thread drainThread;
+	private final Object flushLock = new Object();
+
+	private final AtomicLong pending = new AtomicLong();
+	private final AtomicLong emitted = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private final AtomicLong overflows = new AtomicLong();
+
+	private volatile boolean running = true;
+
+	public LogPipeline(@Nonnull Consumer<List<LogEntry>> batchConsumer) {
+		this(DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, OverflowPolicy.BLOCK, DEFAULT_SAMPLE_RATE, batchConsumer);
+	}
+
+	public LogPipeline(int capacity, int maxBatchSize, @Nonnull OverflowPolicy policy, int overflowSampleRate,
+			@Nonnull Consumer<List<LogEntry>> batchConsumer) {
+		if (capacity <= 0 || maxBatchSize <= 0 || overflowSampleRate <= 0) {
+			throw new IllegalArgumentException("Pipeline capacity, batch size and sample rate should be positive numbers");
+		}
+		queue = new ArrayBlockingQueue<>(capacity);
+		batchSize = maxBatchSize;
+		overflowPolicy = policy;
+		sampleRate = overflowSampleRate;
+		consumer = batchConsumer;
+		drainThread = new Thread(this::drain, "rp-cucumber-log-pipeline");
+		drainThread.setDaemon(true);
+		drainThread.start();
+	}
+
+	private void drain() {
+		List<LogEntry> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				LogEntry first = queue.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				consumer.accept(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				LOGGER.warn("Unable to emit logs", e);
+			} finally {
+				if (!batch.isEmpty()) {
+					emitted.addAndGet(batch.size());
+					release(batch.size());
+					batch.clear();
+				}
+			}
+		}
+	}
+
+	private void release(int entryNumber) {
+		if (pending.addAndGet(-entryNumber) <= 0) {
+			synchronized (flushLock) {
+				flushLock.notifyAll();
+			}
+		}
+	}
+
+	private void drop() {
+		dropped.incrementAndGet();
+		release(1);
+	}
+
+	/**
+	 * Put a log entry into the pipeline. Depending on the {@link OverflowPolicy} the method can block if the pipeline is
+	 * full.
+	 *
+	 * @param entry log entry
+	 */
+	public void emit(@Nonnull LogEntry entry) {
+		pending.incrementAndGet();
+		if (!running) {
+			drop();
+			return;
+		}
+		if (!queue.offer(entry)) {
+			long overflow = overflows.incrementAndGet();
+			switch (overflowPolicy) {
+				case BLOCK:
+					try {
+						queue.put(entry);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						drop();
+						return;
+					}
+					break;
+				case SAMPLE:
+					if (overflow % sampleRate != 0) {
+						drop();
+						return;
+					}
+					replaceOldest(entry);
+					break;
+				case DROP_OLDEST:
+					replaceOldest(entry);
+					break;
+			}
+		}
+		if (!running && queue.remove(entry)) {
+			// the pipeline was closed while the entry was put, and the drain thread may not take it anymore
+			drop();
+		}
+	}
+
+	private void replaceOldest(@Nonnull LogEntry entry) {
+		while (!queue.offer(entry)) {
+			if (queue.poll() != null) {
+				drop();
+			}
+		}
+	}
+
+	/**
+	 * Wait until all entries which are already in the pipeline are handed to the consumer
+	 *
+	 * @param timeout maximum time to wait in milliseconds
+	 * @return true if the pipeline was flushed, false if the timeout was exceeded
+	 */
+	public boolean flush(long timeout) {
+		long deadline = System.currentTimeMillis() + timeout;
+		synchronized (flushLock) {
+			while (pending.get() > 0 && drainThread.isAlive()) {
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					return false;
+				}
+				try {
+					flushLock.wait(Math.min(remaining, POLL_TIMEOUT));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+		}
+		return pending.get() <= 0;
+	}
+
+	/**
+	 * Flush the pipeline and stop its drain thread. Entries emitted after closing are dropped.
+	 */
+	@Override
+	public void close() {
+		if (!flush(DEFAULT_FLUSH_TIMEOUT)) {
+			LOGGER.warn("Unable to flush log pipeline, {} log entries are not sent", pending.get());
+		}
+		running = false;
+		try {
+			drainThread.join(DEFAULT_FLUSH_TIMEOUT);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * @return number of entries which are currently in the pipeline queue
+	 */
+	public int getQueueSize() {
+		return queue.size();
+	}
+
+	/**
+	 * @return number of entries handed to the consumer
+	 */
+	public long getEmittedCount() {
+		return emitted.get();
+	}
+
+	/**
+	 * @return number of entries dropped because of the pipeline overflow or closing
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+
+	/**
+	 * @return number of times the pipeline queue was full on entry emission
+	 */
+	public long getOverflowCount() {
+		return overflows.get();
+	}
+
+	@Nonnull
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+}
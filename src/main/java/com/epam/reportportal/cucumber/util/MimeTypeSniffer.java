@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MIME type detector of embedded data. Common types are recognized by their signatures (magic numbers) with no
+ * allocation, other data is passed to the client's detector through {@link AttachmentUtils#detect(byte[])}. Since the
+ * client's detector looks only at the beginning of the data, its results are cached by the first
+ * {@link #DETECTION_BYTES} bytes.
+ * <p>
+ * Signature rules give the same result as the client's detector, except JSON, which the client detects as plain text.
+ */
+public class MimeTypeSniffer {
+
+	public static final int DEFAULT_CACHE_SIZE = 256;
+
+	/**
+	 * Number of bytes the client's detector looks at to tell binary data from text
+	 */
+	private static final int DETECTION_BYTES = 128;
+
+	public static final String PNG = "image/png";
+	public static final String JPEG = "image/jpeg";
+	public static final String GIF = "image/gif";
+	public static final String PDF = "application/pdf";
+	public static final String ZIP = "application/zip";
+	public static final String JAR = "application/java-archive";
+	public static final String JSON = "application/json";
+	public static final String TEXT = "text/plain";
+
+	private static final byte[] PNG_SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+	private static final byte[] GIF_SIGNATURE = { 'G', 'I', 'F', '8' };
+	private static final byte[] PDF_SIGNATURE = { '%', 'P', 'D', 'F' };
+	private static final byte[] ZIP_SIGNATURE = { 'P', 'K', 3, 4 };
+	private static final byte[] EMPTY_ZIP_SIGNATURE = { 'P', 'K', 5, 6 };
+	private static final byte[] JAR_SIGNATURE_SUFFIX = { 20, 0, 8 };
+	private static final byte[] JPEG_SIGNATURE = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF };
+
+	/**
+	 * Printable signatures of non-text types known by the client's detector
+	 */
+	private static final byte[][] TEXT_LIKE_SIGNATURES = { GIF_SIGNATURE, { '#', 'd', 'e', 'f' }, { '!', ' ', 'X', 'P' },
+			{ '.', 's', 'n', 'd' }, { 'd', 'n', 's', '.' }, { 'R', 'I', 'F', 'F' } };
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final Map<ByteBuffer, String> cache;
+
+	public MimeTypeSniffer() {
+		this(DEFAULT_CACHE_SIZE);
+	}
+
+	public MimeTypeSniffer(int cacheSize) {
+		cache = new LinkedHashMap<ByteBuffer, String>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ByteBuffer, String> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	private static boolean startsWith(@Nonnull byte[] data, int offset, @Nonnull byte[] signature) {
+		if (data.length < offset + signature.length) {
+			return false;
+		}
+		for (int i = 0; i < signature.length; i++) {
+			if (data[offset + i] != signature[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isBinary(@Nonnull byte[] data) {
+		int length = Math.min(data.length, DETECTION_BYTES);
+		for (int i = 0; i < length; i++) {
+			if (data[i] == 0 || data[i] == (byte) 0xFF) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isWhitespace(byte b) {
+		return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+	}
+
+	private static boolean isPrintable(byte b) {
+		return (b >= 0x20 && b < 0x7F) || (b >= '\t' && b <= '\r');
+	}
+
+	private static boolean isJsonScalar(byte b) {
+		return (b >= '0' && b <= '9') || (b >= 'a' && b <= 'z') || b == '-' || b == '+' || b == '.' || b == 'E';
+	}
+
+	/**
+	 * A payload is considered JSON if it is enclosed in braces or brackets and its first element looks like a JSON one:
+	 * an object starts with a key or is empty, an array starts with a string, an object, an array or a scalar followed by
+	 * the next element. So text like {@code [INFO] started ... [done]} stays plain text.
+	 */
+	private static boolean isJson(@Nonnull byte[] data) {
+		int start = 0;
+		while (start < data.length && isWhitespace(data[start])) {
+			start++;
+		}
+		int end = data.length - 1;
+		while (end > start && isWhitespace(data[end])) {
+			end--;
+		}
+		if (end <= start) {
+			return false;
+		}
+		byte open = data[start];
+		if (!(open == '{' && data[end] == '}') && !(open == '[' && data[end] == ']')) {
+			return false;
+		}
+		int next = start + 1;
+		while (next < end && isWhitespace(data[next])) {
+			next++;
+		}
+		if (next == end) {
+			return true;
+		}
+		byte first = data[next];
+		if (open == '{') {
+			return first == '"';
+		}
+		if (first == '"' || first == '{' || first == '[') {
+			return true;
+		}
+		int scalarEnd = next;
+		while (scalarEnd < end && isJsonScalar(data[scalarEnd])) {
+			scalarEnd++;
+		}
+		if (scalarEnd == next) {
+			return false;
+		}
+		while (scalarEnd < end && isWhitespace(data[scalarEnd])) {
+			scalarEnd++;
+		}
+		return scalarEnd == end || data[scalarEnd] == ',';
+	}
+
+	private static boolean isText(@Nonnull byte[] data) {
+		if (data.length == 0 || !isPrintable(data[0]) || data[0] == '<') {
+			return false;
+		}
+		for (byte[] signature : TEXT_LIKE_SIGNATURES) {
+			if (startsWith(data, 0, signature)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Recognize a MIME type of the data by its signature
+	 *
+	 * @param data data to recognize
+	 * @return MIME type or null if the signature is unknown
+	 */
+	@Nullable
+	public static String sniff(@Nonnull byte[] data) {
+		if (startsWith(data, 0, PNG_SIGNATURE)) {
+			return PNG;
+		}
+		if (startsWith(data, 0, JPEG_SIGNATURE) && data.length > 3) {
+			byte marker = data[3];
+			if (marker == (byte) 0xE0 || marker == (byte) 0xE1 || marker == (byte) 0xE8 || marker == (byte) 0xEE) {
+				return JPEG;
+			}
+			return null;
+		}
+		if (startsWith(data, 0, GIF_SIGNATURE)) {
+			return GIF;
+		}
+		if (startsWith(data, 0, ZIP_SIGNATURE)) {
+			return startsWith(data, ZIP_SIGNATURE.length, JAR_SIGNATURE_SUFFIX) ? JAR : ZIP;
+		}
+		if (startsWith(data, 0, EMPTY_ZIP_SIGNATURE)) {
+			return ZIP;
+		}
+		boolean binary = isBinary(data);
+		if (startsWith(data, 0, PDF_SIGNATURE)) {
+			return binary ? PDF : TEXT;
+		}
+		if (binary) {
+			return null;
+		}
+		if (isJson(data)) {
+			return JSON;
+		}
+		return isText(data) ? TEXT : null;
+	}
+
+	/**
+	 * Detect a MIME type of the data: by its signature if it is known, or with the client's detector otherwise
+	 *
+	 * @param data data to detect
+	 * @return MIME type
+	 * @throws IOException in case of detection error
+	 */
+	@Nonnull
+	public String detect(@Nonnull byte[] data) throws IOException {
+		String type = sniff(data);
+		if (type != null) {
+			hits.incrementAndGet();
+			return type;
+		}
+		misses.incrementAndGet();
+		ByteBuffer key = ByteBuffer.wrap(Arrays.copyOf(data, Math.min(data.length, DETECTION_BYTES)));
+		synchronized (cache) {
+			type = cache.get(key);
+		}
+		if (type == null) {
+			type = AttachmentUtils.detect(data);
+			synchronized (cache) {
+				cache.put(key, type);
+			}
+		}
+		return type;
+	}
+
+	/**
+	 * @return number of detections made by signature
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * @return number of detections passed to the client's detector
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+}
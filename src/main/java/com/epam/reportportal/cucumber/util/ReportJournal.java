@@ -0,0 +1,348 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.reactivex.Maybe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Append-only journal of reporting events: launch start and finish, item starts and finishes, logs and attachments.
+ * The journal lets a reporter run with no connection to Report Portal, the recorded events are uploaded later, see
+ * {@link JournalUploader}.
+ * <p>
+ * Items are identified by journal IDs, which are assigned sequentially on item start. The file starts with a magic
+ * number followed by event frames: one byte of event type, four bytes of body length, four bytes of attachment length,
+ * a JSON body with the item ID, its parent ID and the request, and raw attachment content of log events. Frames are
+ * written sequentially with a single gathering write, so a journal which was not closed properly is readable up to its
+ * last complete frame.
+ * <p>
+ * A write error does not interrupt the test run: the error is logged and the journal is closed, later events are not
+ * recorded, see {@link #isFailed()}.
+ */
+public class ReportJournal implements Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReportJournal.class);
+
+	private static final byte[] MAGIC = { 'R', 'P', 'J', '1' };
+	private static final int FRAME_HEADER_SIZE = Byte.BYTES + Integer.BYTES + Integer.BYTES;
+	private static final byte[] NO_CONTENT = new byte[0];
+
+	private static final String ID = "id";
+	private static final String PARENT = "parent";
+	private static final String REQUEST = "rq";
+	private static final String CONTENT_TYPE = "contentType";
+
+	private static final ObjectMapper MAPPER = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	/**
+	 * Journal event types with their request classes
+	 */
+	public enum EventType {
+		START_LAUNCH(StartLaunchRQ.class),
+		START_ITEM(StartTestItemRQ.class),
+		FINISH_ITEM(FinishTestItemRQ.class),
+		LOG(SaveLogRQ.class),
+		FINISH_LAUNCH(FinishExecutionRQ.class);
+
+		private final Class<?> requestType;
+
+		EventType(Class<?> requestType) {
+			this.requestType = requestType;
+		}
+
+		public Class<?> getRequestType() {
+			return requestType;
+		}
+	}
+
+	/**
+	 * A recorded event
+	 */
+	public static class Event {
+		private final EventType type;
+		private final String itemId;
+		private final String parentId;
+		private final Object request;
+
+		public Event(@Nonnull EventType type, @Nullable String itemId, @Nullable String parentId, @Nonnull Object request) {
+			this.type = type;
+			this.itemId = itemId;
+			this.parentId = parentId;
+			this.request = request;
+		}
+
+		@Nonnull
+		public EventType getType() {
+			return type;
+		}
+
+		/**
+		 * @return journal ID of the started, finished or logged item, null for launch events and launch logs
+		 */
+		@Nullable
+		public String getItemId() {
+			return itemId;
+		}
+
+		/**
+		 * @return journal ID of the parent item of a started item, null for root items and other events
+		 */
+		@Nullable
+		public String getParentId() {
+			return parentId;
+		}
+
+		@Nonnull
+		@SuppressWarnings("unchecked")
+		public <T> T getRequest() {
+			return (T) request;
+		}
+	}
+
+	private final File file;
+	private final FileChannel channel;
+	private final ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+	private final AtomicLong idSequence = new AtomicLong();
+	private final AtomicLong eventCount = new AtomicLong();
+	private volatile boolean failed;
+
+	private ReportJournal(@Nonnull File file, @Nonnull FileChannel channel) {
+		this.file = file;
+		this.channel = channel;
+	}
+
+	/**
+	 * Create a new journal, an existing file is overwritten
+	 *
+	 * @param file journal file
+	 * @return the journal
+	 * @throws IOException in case of the file creation error
+	 */
+	@Nonnull
+	public static ReportJournal create(@Nonnull File file) throws IOException {
+		FileChannel channel = FileChannel.open(file.toPath(),
+				StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING
+		);
+		ByteBuffer magic = ByteBuffer.wrap(MAGIC);
+		while (magic.hasRemaining()) {
+			channel.write(magic);
+		}
+		return new ReportJournal(file, channel);
+	}
+
+	@Nonnull
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * @return number of events written
+	 */
+	public long getEventCount() {
+		return eventCount.get();
+	}
+
+	/**
+	 * @return true if a write error happened, in this case the journal contains only the events written before the error
+	 */
+	public boolean isFailed() {
+		return failed;
+	}
+
+	@Nullable
+	private static String toId(@Nullable Maybe<String> id) {
+		return id == null ? null : id.blockingGet();
+	}
+
+	private synchronized void write(@Nonnull EventType type, @Nullable String itemId, @Nullable String parentId, @Nonnull Object request) {
+		if (failed) {
+			return;
+		}
+		ObjectNode body = MAPPER.createObjectNode();
+		body.put(ID, itemId);
+		body.put(PARENT, parentId);
+		body.set(REQUEST, MAPPER.valueToTree(request));
+		// attachment content and type are not serialized to JSON by the model, the content is written as is after the body
+		byte[] content = NO_CONTENT;
+		SaveLogRQ.File attachmentFile = request instanceof SaveLogRQ ? ((SaveLogRQ) request).getFile() : null;
+		if (attachmentFile != null) {
+			body.put(CONTENT_TYPE, attachmentFile.getContentType());
+			content = ofNullable(attachmentFile.getContent()).orElse(NO_CONTENT);
+		}
+		try {
+			ByteBuffer payload = ByteBuffer.wrap(MAPPER.writeValueAsBytes(body));
+			ByteBuffer attachment = ByteBuffer.wrap(content);
+			header.clear();
+			header.put((byte) type.ordinal()).putInt(payload.remaining()).putInt(attachment.remaining()).flip();
+			ByteBuffer[] frame = { header, payload, attachment };
+			while (attachment.hasRemaining() || payload.hasRemaining()) {
+				channel.write(frame);
+			}
+			eventCount.incrementAndGet();
+		} catch (IOException e) {
+			// a partially written frame is the last one, so it is skipped on read
+			failed = true;
+			try {
+				channel.close();
+			} catch (IOException closeError) {
+				e.addSuppressed(closeError);
+			}
+			LOGGER.error("Unable to write to the reporting journal " + file + ", later reporting events are not recorded", e);
+		}
+	}
+
+	/**
+	 * Record the launch start
+	 *
+	 * @param rq launch start request
+	 */
+	public void startLaunch(@Nonnull StartLaunchRQ rq) {
+		write(EventType.START_LAUNCH, null, null, rq);
+	}
+
+	/**
+	 * Record an item start
+	 *
+	 * @param parentId journal ID of the parent item, or null for a root item
+	 * @param rq       item start request
+	 * @return journal ID of the item
+	 */
+	@Nonnull
+	public Maybe<String> startItem(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		String id = String.valueOf(idSequence.incrementAndGet());
+		write(EventType.START_ITEM, id, toId(parentId), rq);
+		return Maybe.just(id);
+	}
+
+	/**
+	 * Record an item finish
+	 *
+	 * @param itemId journal ID of the item
+	 * @param rq     item finish request
+	 */
+	public void finishItem(@Nonnull Maybe<String> itemId, @Nonnull FinishTestItemRQ rq) {
+		write(EventType.FINISH_ITEM, toId(itemId), null, rq);
+	}
+
+	/**
+	 * Record a log entry, with or without an attachment
+	 *
+	 * @param itemId journal ID of the item, or null for a launch log
+	 * @param rq     log request, item and launch UUIDs are set on upload
+	 */
+	public void log(@Nullable Maybe<String> itemId, @Nonnull SaveLogRQ rq) {
+		write(EventType.LOG, toId(itemId), null, rq);
+	}
+
+	/**
+	 * Record the launch finish
+	 *
+	 * @param rq launch finish request
+	 */
+	public void finishLaunch(@Nonnull FinishExecutionRQ rq) {
+		write(EventType.FINISH_LAUNCH, null, null, rq);
+	}
+
+	/**
+	 * Write all data to the disk and close the journal
+	 *
+	 * @throws IOException in case of a write error
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (channel.isOpen()) {
+			try {
+				channel.force(false);
+			} finally {
+				channel.close();
+			}
+		}
+	}
+
+	/**
+	 * Read journal events in the order they were written. A partially written last event is skipped.
+	 *
+	 * @param file     journal file
+	 * @param consumer event consumer
+	 * @return number of events read
+	 * @throws IOException in case of a read error or if the file is not a journal
+	 */
+	public static long read(@Nonnull File file, @Nonnull Consumer<Event> consumer) throws IOException {
+		EventType[] types = EventType.values();
+		long count = 0;
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			byte[] magic = new byte[MAGIC.length];
+			input.readFully(magic);
+			if (!Arrays.equals(magic, MAGIC)) {
+				throw new IOException("Not a reporting journal: " + file);
+			}
+			while (true) {
+				int type = input.read();
+				if (type < 0) {
+					break;
+				}
+				if (type >= types.length) {
+					throw new IOException("Unknown journal event type: " + type);
+				}
+				byte[] payload;
+				byte[] content;
+				try {
+					payload = new byte[input.readInt()];
+					content = new byte[input.readInt()];
+					input.readFully(payload);
+					input.readFully(content);
+				} catch (EOFException e) {
+					break;
+				}
+				JsonNode body = MAPPER.readTree(payload);
+				EventType eventType = types[type];
+				Object request = MAPPER.treeToValue(body.get(REQUEST), eventType.getRequestType());
+				SaveLogRQ.File attachmentFile = request instanceof SaveLogRQ ? ((SaveLogRQ) request).getFile() : null;
+				if (attachmentFile != null) {
+					attachmentFile.setContentType(body.path(CONTENT_TYPE).textValue());
+					attachmentFile.setContent(content);
+				}
+				consumer.accept(new Event(eventType, body.path(ID).textValue(), body.path(PARENT).textValue(), request));
+				count++;
+			}
+		}
+		return count;
+	}
+}
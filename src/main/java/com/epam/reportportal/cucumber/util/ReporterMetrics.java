@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Overhead metrics of a reporter: time spent inside formatter callbacks and number of requests built.
+ */
+public class ReporterMetrics {
+
+	/**
+	 * Instrumented formatter and reporter callbacks
+	 */
+	public enum Event {
+		URI, FEATURE, START_OF_SCENARIO_LIFECYCLE, MATCH, RESULT, WRITE, EMBEDDING, END_OF_SCENARIO_LIFECYCLE, EOF, CLOSE
+	}
+
+	private final Map<Event, LatencyHistogram> latencies = new EnumMap<>(Event.class);
+	private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+
+	public ReporterMetrics() {
+		for (Event event : Event.values()) {
+			latencies.put(event, new LatencyHistogram());
+		}
+	}
+
+	/**
+	 * Record time spent in a callback
+	 *
+	 * @param event     the callback
+	 * @param startTime {@link System#nanoTime()} at the callback start
+	 */
+	public void record(@Nonnull Event event, long startTime) {
+		latencies.get(event).record(System.nanoTime() - startTime);
+	}
+
+	/**
+	 * Count a request built by the reporter
+	 *
+	 * @param type request type, e.g. item type for start requests
+	 */
+	public void countRequest(@Nonnull String type) {
+		requests.computeIfAbsent(type, k -> new LongAdder()).increment();
+	}
+
+	@Nonnull
+	public LatencyHistogram getLatency(@Nonnull Event event) {
+		return latencies.get(event);
+	}
+
+	/**
+	 * @return request counts by type
+	 */
+	@Nonnull
+	public Map<String, Long> getRequestCounts() {
+		Map<String, Long> result = new TreeMap<>();
+		requests.forEach((k, v) -> result.put(k, v.sum()));
+		return result;
+	}
+
+	/**
+	 * @return total time spent in all callbacks, in nanoseconds
+	 */
+	public long getTotalTime() {
+		long result = 0;
+		for (LatencyHistogram histogram : latencies.values()) {
+			result += histogram.getTotal();
+		}
+		return result;
+	}
+
+	private static long toMicros(long nanos) {
+		return TimeUnit.NANOSECONDS.toMicros(nanos);
+	}
+
+	/**
+	 * Build a human-readable summary of the metrics, times are in microseconds
+	 *
+	 * @return the summary
+	 */
+	@Nonnull
+	public String summary() {
+		StringBuilder builder = new StringBuilder("Report Portal agent overhead: ").append(toMicros(getTotalTime()))
+				.append(" us total");
+		latencies.forEach((event, histogram) -> {
+			if (histogram.getCount() > 0) {
+				builder.append(String.format(
+						"%n  %-27s count=%d total=%dus mean=%dus p50=%dus p99=%dus max=%dus",
+						event.name().toLowerCase(Locale.ROOT),
+						histogram.getCount(),
+						toMicros(histogram.getTotal()),
+						toMicros(histogram.getMean()),
+						toMicros(histogram.getPercentile(50)),
+						toMicros(histogram.getPercentile(99)),
+						toMicros(histogram.getMax())
+				));
+			}
+		});
+		builder.append(String.format("%n  requests: %s", getRequestCounts()));
+		return builder.toString();
+	}
+
+	/**
+	 * Convert the metrics to a map, ready to be serialized to JSON. Times are in nanoseconds.
+	 *
+	 * @return the metrics
+	 */
+	@Nonnull
+	public Map<String, Object> toMap() {
+		Map<String, Object> events = new LinkedHashMap<>();
+		latencies.forEach((event, histogram) -> {
+			Map<String, Object> values = new LinkedHashMap<>();
+			values.put("count", histogram.getCount());
+			values.put("total", histogram.getTotal());
+			values.put("mean", histogram.getMean());
+			values.put("p50", histogram.getPercentile(50));
+			values.put("p90", histogram.getPercentile(90));
+			values.put("p99", histogram.getPercentile(99));
+			values.put("max", histogram.getMax());
+			events.put(event.name().toLowerCase(Locale.ROOT), values);
+		});
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("totalTime", getTotalTime());
+		result.put("events", events);
+		result.put("requests", getRequestCounts());
+		return result;
+	}
+
+	/**
+	 * Write the metrics to a JSON file
+	 *
+	 * @param file the file
+	 * @throws IOException in case of write error
+	 */
+	public void writeJson(@Nonnull File file) throws IOException {
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, toMap());
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import com.epam.reportportal.utils.formatting.ExceptionUtils;
+
+import javax.annotation.Nonnull;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.epam.reportportal.utils.formatting.ExceptionUtils.LINE_DELIMITER;
+import static com.epam.reportportal.utils.formatting.ExceptionUtils.SKIP_TRACE_MARKER;
+
+/**
+ * Stack trace renderer which gives the same output as {@link ExceptionUtils#getStackTrace(Throwable, Throwable)}, if
+ * no limits are set. Frames of the given packages can be collapsed, the number of frames of each throwable in the cause
+ * chain and the length of the whole trace can be capped. Skipped frames are replaced with
+ * {@link ExceptionUtils#SKIP_TRACE_MARKER}, like frames common with the base throwable.
+ * <p>
+ * A failed step's error is rendered for its log and again for the descriptions of the step and its scenario, so the
+ * last rendered error is cached per thread by its identity, see {@link #render(Throwable)}.
+ */
+public class StackTraceRenderer {
+
+	/**
+	 * No limit on the number of frames or the trace length
+	 */
+	public static final int UNLIMITED = -1;
+
+	private static final String FRAME_PREFIX = "at ";
+	private static final String CAUSE_PREFIX = "Caused by:";
+	private static final String SUPPRESSED_PREFIX = "Suppressed:";
+
+	private static final class Rendered {
+		private final WeakReference<Throwable> error;
+		private final String trace;
+
+		private Rendered(Throwable error, String trace) {
+			this.error = new WeakReference<>(error);
+			this.trace = trace;
+		}
+	}
+
+	private final String[] collapsedFramePrefixes;
+	private final int maxFrames;
+	private final int maxLength;
+
+	private final ThreadLocal<Rendered> lastRendered = new ThreadLocal<>();
+
+	public StackTraceRenderer() {
+		this(Collections.emptyList(), UNLIMITED, UNLIMITED);
+	}
+
+	/**
+	 * @param collapsedPackages packages which frames are collapsed, e.g. {@code org.junit}, {@code sun.reflect}
+	 * @param maxFrames         maximum number of rendered frames of each throwable in the cause chain, or
+	 *                          {@link #UNLIMITED}
+	 * @param maxLength         maximum trace length in characters, or {@link #UNLIMITED}
+	 */
+	public StackTraceRenderer(@Nonnull Collection<String> collapsedPackages, int maxFrames, int maxLength) {
+		collapsedFramePrefixes = collapsedPackages.stream()
+				.map(p -> FRAME_PREFIX + (p.endsWith(".") ? p : p + "."))
+				.toArray(String[]::new);
+		this.maxFrames = maxFrames;
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * Render an error, skipping frames common with the current thread stack. The result is cached until another error is
+	 * rendered in the same thread.
+	 *
+	 * @param error the error
+	 * @return the stack trace
+	 */
+	@Nonnull
+	public String render(@Nonnull Throwable error) {
+		Rendered rendered = lastRendered.get();
+		if (rendered != null && rendered.error.get() == error) {
+			return rendered.trace;
+		}
+		String trace = format(error, new Throwable());
+		lastRendered.set(new Rendered(error, trace));
+		return trace;
+	}
+
+	/**
+	 * Render an error
+	 *
+	 * @param error         the error
+	 * @param baseThrowable a throwable which frames are skipped in the error's trace
+	 * @return the stack trace
+	 */
+	@Nonnull
+	public String format(@Nonnull Throwable error, @Nonnull Throwable baseThrowable) {
+		String[] frames = org.apache.commons.lang3.exception.ExceptionUtils.getStackFrames(error);
+		if (frames.length == 0) {
+			return "";
+		}
+		Set<String> baseFrames = new HashSet<>();
+		Collections.addAll(baseFrames, org.apache.commons.lang3.exception.ExceptionUtils.getStackFrames(baseThrowable));
+		StringBuilder sb = new StringBuilder();
+		sb.append(frames[0]).append(LINE_DELIMITER);
+		boolean skipping = false;
+		int frameNumber = 0;
+		for (int i = 1; i < frames.length; i++) {
+			String frame = frames[i];
+			int start = firstNonWhitespace(frame);
+			boolean isFrame = frame.startsWith(FRAME_PREFIX, start);
+			if (!isFrame && (frame.startsWith(CAUSE_PREFIX, start) || frame.startsWith(SUPPRESSED_PREFIX, start))) {
+				frameNumber = 0;
+			}
+			boolean skip = baseFrames.contains(frame) || (isFrame && (isCollapsed(frame, start) || (maxFrames >= 0
+					&& frameNumber >= maxFrames)));
+			if (isFrame) {
+				frameNumber++;
+			}
+			if (skip) {
+				if (!skipping) {
+					sb.append(SKIP_TRACE_MARKER);
+					skipping = true;
+				}
+				continue;
+			}
+			skipping = false;
+			if (maxLength >= 0 && sb.length() + frame.length() + LINE_DELIMITER.length() > maxLength) {
+				sb.append(SKIP_TRACE_MARKER).append(LINE_DELIMITER);
+				break;
+			}
+			sb.append(frame).append(LINE_DELIMITER);
+		}
+		return sb.toString();
+	}
+
+	private static int firstNonWhitespace(@Nonnull String frame) {
+		int i = 0;
+		while (i < frame.length() && Character.isWhitespace(frame.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	private boolean isCollapsed(@Nonnull String frame, int start) {
+		for (String prefix : collapsedFramePrefixes) {
+			if (frame.startsWith(prefix, start)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
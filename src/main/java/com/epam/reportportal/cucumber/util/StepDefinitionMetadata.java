@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import com.epam.reportportal.annotations.TestCaseId;
+import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.utils.AttributeParser;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import gherkin.formatter.model.Match;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Metadata of a Cucumber step definition: code reference, step method and its Report Portal annotations.
+ * <p>
+ * Cucumber does not expose step definitions through the formatter API, so they are retrieved with reflection. To avoid
+ * doing this on every step the metadata is resolved once per step definition method and cached. Reflective accessors are
+ * cached per class, so the per-step cost is two field reads and a map lookup. All caches are safe to use from parallel
+ * runners.
+ * <p>
+ * The caches do not hold step definition classes and their class loaders: metadata of a Java step definition is kept
+ * with the class which declares the step method, metadata of a step definition of other backends is weakly bound to the
+ * step definition instance.
+ */
+public class StepDefinitionMetadata {
+	private static final String STEP_DEFINITION_FIELD_NAME = "stepDefinition";
+	private static final String METHOD_FIELD_NAME = "method";
+	private static final String GET_LOCATION_METHOD_NAME = "getLocation";
+	private static final String METHOD_OPENING_BRACKET = "(";
+
+	private static final ClassValue<Optional<Field>> STEP_DEFINITION_FIELDS = new ClassValue<Optional<Field>>() {
+		@Override
+		protected Optional<Field> computeValue(Class<?> type) {
+			return getDeclaredField(type, STEP_DEFINITION_FIELD_NAME);
+		}
+	};
+
+	private static final ClassValue<Optional<Field>> METHOD_FIELDS = new ClassValue<Optional<Field>>() {
+		@Override
+		protected Optional<Field> computeValue(Class<?> type) {
+			return getDeclaredField(type, METHOD_FIELD_NAME);
+		}
+	};
+
+	private static final ClassValue<Optional<Method>> GET_LOCATION_METHODS = new ClassValue<Optional<Method>>() {
+		@Override
+		protected Optional<Method> computeValue(Class<?> type) {
+			try {
+				return Optional.of(makeAccessible(type.getDeclaredMethod(GET_LOCATION_METHOD_NAME, boolean.class)));
+			} catch (NoSuchMethodException | RuntimeException e) {
+				return Optional.empty();
+			}
+		}
+	};
+
+	private static final ClassValue<Map<Object, StepDefinitionMetadata>> METHOD_METADATA =
+			new ClassValue<Map<Object, StepDefinitionMetadata>>() {
+				@Override
+				protected Map<Object, StepDefinitionMetadata> computeValue(Class<?> type) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+
+	private static final Map<Object, StepDefinitionMetadata> INSTANCE_METADATA = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private final String codeRef;
+	private final Method method;
+	private final TestCaseId testCaseId;
+	private final Set<ItemAttributesRQ> attributes;
+
+	private StepDefinitionMetadata(@Nullable String stepCodeRef, @Nullable Method stepMethod) {
+		codeRef = stepCodeRef;
+		method = stepMethod;
+		testCaseId = stepMethod == null ? null : stepMethod.getAnnotation(TestCaseId.class);
+		attributes = ofNullable(stepMethod).map(m -> m.getAnnotation(Attributes.class))
+				.map(AttributeParser::retrieveAttributes)
+				.map(Collections::unmodifiableSet)
+				.orElse(null);
+	}
+
+	private static <T extends AccessibleObject> T makeAccessible(T object) {
+		object.setAccessible(true);
+		return object;
+	}
+
+	@Nonnull
+	private static Optional<Field> getDeclaredField(@Nonnull Class<?> type, @Nonnull String name) {
+		try {
+			return Optional.of(makeAccessible(type.getDeclaredField(name)));
+		} catch (NoSuchFieldException | RuntimeException e) {
+			return Optional.empty();
+		}
+	}
+
+	@Nullable
+	private static Object getFieldValue(@Nonnull ClassValue<Optional<Field>> fields, @Nonnull Object object) {
+		Optional<Field> field = fields.get(object.getClass());
+		if (!field.isPresent()) {
+			return null;
+		}
+		try {
+			return field.get().get(object);
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	@Nullable
+	private static String retrieveCodeRef(@Nonnull Object stepDefinition) {
+		Optional<Method> getLocation = GET_LOCATION_METHODS.get(stepDefinition.getClass());
+		if (!getLocation.isPresent()) {
+			return null;
+		}
+		try {
+			String fullCodeRef = String.valueOf(getLocation.get().invoke(stepDefinition, true));
+			if (fullCodeRef.isEmpty()) {
+				return null;
+			}
+			int openingBracketIndex = fullCodeRef.indexOf(METHOD_OPENING_BRACKET);
+			return openingBracketIndex > 0 ? fullCodeRef.substring(0, openingBracketIndex) : fullCodeRef;
+		} catch (IllegalAccessException | InvocationTargetException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns metadata of a step definition bound to the given match
+	 *
+	 * @param match Cucumber's Match object
+	 * @return step definition metadata or null if the match is not bound to a step definition (ambiguous, undefined, etc.)
+	 */
+	@Nullable
+	public static StepDefinitionMetadata of(@Nonnull Match match) {
+		Object stepDefinition = getFieldValue(STEP_DEFINITION_FIELDS, match);
+		if (stepDefinition == null) {
+			return null;
+		}
+		Method method = (Method) getFieldValue(METHOD_FIELDS, stepDefinition);
+		// Step definitions are re-created for every Cucumber runtime, but methods are not
+		Map<Object, StepDefinitionMetadata> cache = method == null ? INSTANCE_METADATA : METHOD_METADATA.get(method.getDeclaringClass());
+		Object key = method == null ? stepDefinition : method;
+		StepDefinitionMetadata metadata = cache.get(key);
+		if (metadata == null) {
+			StepDefinitionMetadata newMetadata = new StepDefinitionMetadata(retrieveCodeRef(stepDefinition), method);
+			metadata = ofNullable(cache.putIfAbsent(key, newMetadata)).orElse(newMetadata);
+		}
+		return metadata;
+	}
+
+	/**
+	 * @return a code reference of the step definition, or null if it is not possible to determine
+	 */
+	@Nullable
+	public String getCodeRef() {
+		return codeRef;
+	}
+
+	/**
+	 * @return a step definition method, or null if the step definition is not backed by a Java method
+	 */
+	@Nullable
+	public Method getMethod() {
+		return method;
+	}
+
+	/**
+	 * @return {@link TestCaseId} annotation of the step definition method or null if there is no such
+	 */
+	@Nullable
+	public TestCaseId getTestCaseId() {
+		return testCaseId;
+	}
+
+	/**
+	 * Returns attributes defined by {@link Attributes} annotation of the step definition method. The result is a new
+	 * set on each call, so it can be safely modified.
+	 *
+	 * @return a set of attributes or null if there is no such annotation
+	 */
+	@Nullable
+	public Set<ItemAttributesRQ> getAttributes() {
+		if (attributes == null) {
+			return null;
+		}
+		Set<ItemAttributesRQ> result = new HashSet<>(attributes.size());
+		for (ItemAttributesRQ attribute : attributes) {
+			result.add(new ItemAttributesRQ(attribute.getKey(), attribute.getValue(), attribute.isSystem()));
+		}
+		return result;
+	}
+}
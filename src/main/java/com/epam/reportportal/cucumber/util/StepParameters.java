@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import com.epam.reportportal.annotations.ParameterKey;
+import com.epam.reportportal.utils.ParameterUtils;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import org.apache.commons.text.StringEscapeUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Step parameter resolution with the same result as {@link ParameterUtils#getParameters(String, List)}.
+ * <p>
+ * The client looks up the step definition method by its code reference and reads its parameter types on every call.
+ * Here parameter keys are resolved once per code reference and parameter number and cached, so building parameters of
+ * a step costs a map lookup and a list of {@link ParameterResource}s.
+ */
+public class StepParameters {
+
+	private static final String ARGUMENT_PREFIX = "arg";
+	private static final String[] ARGUMENT_NAMES = new String[16];
+
+	static {
+		for (int i = 0; i < ARGUMENT_NAMES.length; i++) {
+			ARGUMENT_NAMES[i] = ARGUMENT_PREFIX + i;
+		}
+	}
+
+	/**
+	 * Marks code references which are not resolved to a method, given parameter names are used as keys for them
+	 */
+	private static final String[] UNRESOLVED = new String[0];
+
+	private static final class Key {
+		private final String codeRef;
+		private final int parameterNumber;
+
+		private Key(@Nonnull String stepCodeRef, int stepParameterNumber) {
+			codeRef = stepCodeRef;
+			parameterNumber = stepParameterNumber;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) o;
+			return parameterNumber == key.parameterNumber && codeRef.equals(key.codeRef);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * codeRef.hashCode() + parameterNumber;
+		}
+	}
+
+	private static final Map<Key, String[]> KEY_CACHE = new ConcurrentHashMap<>();
+
+	private StepParameters() {
+		throw new IllegalStateException("Static only class");
+	}
+
+	/**
+	 * Returns a name of a step argument parameter by its index: {@code arg0}, {@code arg1}, etc.
+	 *
+	 * @param index argument index
+	 * @return parameter name
+	 */
+	@Nonnull
+	public static String argumentName(int index) {
+		return index < ARGUMENT_NAMES.length ? ARGUMENT_NAMES[index] : ARGUMENT_PREFIX + index;
+	}
+
+	/**
+	 * Escape HTML special characters the same way as {@link StringEscapeUtils#escapeHtml4(String)}. Strings without
+	 * such characters, which are most step arguments, are returned as is without copying.
+	 *
+	 * @param value a string to escape
+	 * @return escaped string
+	 */
+	@Nullable
+	public static String escapeHtml(@Nullable String value) {
+		if (value == null) {
+			return null;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c > 0x7F || c == '<' || c == '>' || c == '&' || c == '"') {
+				return StringEscapeUtils.escapeHtml4(value);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Build parameters of a step
+	 *
+	 * @param codeRef a code reference of the step definition method to retrieve parameter keys, see
+	 *                {@link ParameterKey}
+	 * @param names   parameter names, used as keys if the method is not found
+	 * @param values  parameter values, of the same length as names
+	 * @return a list of parameters
+	 */
+	@Nonnull
+	public static List<ParameterResource> getParameters(@Nullable String codeRef, @Nonnull String[] names, @Nonnull String[] values) {
+		if (values.length == 0) {
+			return Collections.emptyList();
+		}
+		String[] keys = codeRef == null ? UNRESOLVED : resolveKeys(codeRef, values.length);
+		if (keys == UNRESOLVED) {
+			keys = names;
+		}
+		List<ParameterResource> result = new ArrayList<>(values.length);
+		for (int i = 0; i < values.length; i++) {
+			ParameterResource parameter = new ParameterResource();
+			parameter.setKey(keys[i]);
+			parameter.setValue(values[i] == null ? ParameterUtils.NULL_VALUE : values[i]);
+			result.add(parameter);
+		}
+		return result;
+	}
+
+	@Nonnull
+	private static String[] resolveKeys(@Nonnull String codeRef, int parameterNumber) {
+		Key key = new Key(codeRef, parameterNumber);
+		String[] keys = KEY_CACHE.get(key);
+		if (keys == null) {
+			keys = KEY_CACHE.computeIfAbsent(key, k -> retrieveKeys(k.codeRef, k.parameterNumber));
+		}
+		return keys;
+	}
+
+	@Nonnull
+	private static String[] retrieveKeys(@Nonnull String codeRef, int parameterNumber) {
+		Executable executable = findExecutable(codeRef, parameterNumber);
+		if (executable == null) {
+			return UNRESOLVED;
+		}
+		Class<?>[] types = executable.getParameterTypes();
+		Annotation[][] annotations = executable.getParameterAnnotations();
+		String[] keys = new String[types.length];
+		for (int i = 0; i < types.length; i++) {
+			keys[i] = types[i].getName();
+			for (Annotation annotation : annotations[i]) {
+				if (annotation instanceof ParameterKey) {
+					keys[i] = ((ParameterKey) annotation).value();
+					break;
+				}
+			}
+		}
+		return keys;
+	}
+
+	@Nullable
+	private static Executable findExecutable(@Nonnull String codeRef, int parameterNumber) {
+		int lastDelimiterIndex = codeRef.lastIndexOf('.');
+		String methodName = codeRef.substring(lastDelimiterIndex + 1);
+		Class<?> type;
+		try {
+			type = Class.forName(codeRef.substring(0, Math.max(lastDelimiterIndex, 0)));
+		} catch (ClassNotFoundException | LinkageError e) {
+			try {
+				type = Class.forName(codeRef);
+			} catch (ClassNotFoundException | LinkageError e2) {
+				return null;
+			}
+		}
+		for (Method method : type.getDeclaredMethods()) {
+			if (isMatching(method, codeRef, methodName, parameterNumber)) {
+				return method;
+			}
+		}
+		for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+			if (isMatching(constructor, codeRef, methodName, parameterNumber)) {
+				return constructor;
+			}
+		}
+		return null;
+	}
+
+	private static boolean isMatching(@Nonnull Executable executable, @Nonnull String codeRef, @Nonnull String methodName,
+			int parameterNumber) {
+		String name = executable.getName();
+		return (methodName.equals(name) || codeRef.equals(name)) && executable.getParameterCount() == parameterNumber;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import gherkin.formatter.model.Tag;
+
+import javax.annotation.Nonnull;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts Cucumber tags to item attributes.
+ * <p>
+ * A tag of {@code @key:value} form becomes an attribute with {@code key} key and {@code value} value, any other tag
+ * becomes an attribute without a key and with the tag name, e.g. {@code @smoke}, as a value.
+ * <p>
+ * Scenarios of a feature usually share the same tags, so attribute sets are cached by tag names and shared: the
+ * returned sets are immutable. Each tag is parsed once. The caches are limited, tags and tag sets above the limit are
+ * converted on each call.
+ */
+public class TagAttributes {
+
+	public static final int DEFAULT_CACHE_CAPACITY = 4096;
+
+	private static final String TAG_PREFIX = "@";
+	private static final char KEY_VALUE_SEPARATOR = ':';
+
+	private static final Map<String, ItemAttributesRQ> TAG_CACHE = new ConcurrentHashMap<>();
+	private static final Map<List<String>, Set<ItemAttributesRQ>> TAG_SET_CACHE = new ConcurrentHashMap<>();
+
+	private TagAttributes() {
+		throw new IllegalStateException("Static only class");
+	}
+
+	/**
+	 * Convert a tag to an attribute
+	 *
+	 * @param tagName tag name, e.g. {@code @smoke} or {@code @team:payments}
+	 * @return the attribute
+	 */
+	@Nonnull
+	public static ItemAttributesRQ parse(@Nonnull String tagName) {
+		int start = tagName.startsWith(TAG_PREFIX) ? TAG_PREFIX.length() : 0;
+		int separator = tagName.indexOf(KEY_VALUE_SEPARATOR, start);
+		if (separator > start && separator < tagName.length() - 1) {
+			return new ItemAttributesRQ(tagName.substring(start, separator), tagName.substring(separator + 1));
+		}
+		return new ItemAttributesRQ(null, tagName);
+	}
+
+	@Nonnull
+	private static ItemAttributesRQ toAttribute(@Nonnull String tagName) {
+		ItemAttributesRQ attribute = TAG_CACHE.get(tagName);
+		if (attribute != null) {
+			return attribute;
+		}
+		if (TAG_CACHE.size() >= DEFAULT_CACHE_CAPACITY) {
+			return parse(tagName);
+		}
+		return TAG_CACHE.computeIfAbsent(tagName, TagAttributes::parse);
+	}
+
+	/**
+	 * Returns attributes of the given tags
+	 *
+	 * @param tags Cucumber tags
+	 * @return an immutable set of attributes, shared by all calls with the same tag names
+	 */
+	@Nonnull
+	public static Set<ItemAttributesRQ> of(@Nonnull List<Tag> tags) {
+		if (tags.isEmpty()) {
+			return Collections.emptySet();
+		}
+		List<String> names = new ArrayList<>(tags.size());
+		for (Tag tag : tags) {
+			names.add(tag.getName());
+		}
+		Set<ItemAttributesRQ> attributes = TAG_SET_CACHE.get(names);
+		if (attributes != null) {
+			return attributes;
+		}
+		Set<ItemAttributesRQ> result = new HashSet<>(names.size() * 2);
+		for (String name : names) {
+			result.add(toAttribute(name));
+		}
+		attributes = Collections.unmodifiableSet(result);
+		if (TAG_SET_CACHE.size() >= DEFAULT_CACHE_CAPACITY) {
+			return attributes;
+		}
+		Set<ItemAttributesRQ> cached = TAG_SET_CACHE.putIfAbsent(names, attributes);
+		return cached == null ? attributes : cached;
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.util;
+
+import com.epam.reportportal.service.item.TestCaseIdEntry;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Least recently used cache of Test Case IDs by step definition method, code reference and arguments.
+ * <p>
+ * Scenario outline examples, reruns and retries compute the same Test Case ID for the same code reference and arguments
+ * again and again. The ID calculation does not depend on anything else, so it is done once per argument tuple while
+ * the tuple stays in the cache.
+ */
+public class TestCaseIdCache {
+
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	private static final class Key {
+		private final Method method;
+		private final String codeRef;
+		private final List<?> arguments;
+		private final int hash;
+
+		private Key(@Nullable Method stepMethod, @Nullable String stepCodeRef, @Nullable List<?> stepArguments) {
+			method = stepMethod;
+			codeRef = stepCodeRef;
+			arguments = stepArguments;
+			hash = 31 * (31 * Objects.hashCode(method) + Objects.hashCode(codeRef)) + Objects.hashCode(arguments);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) o;
+			return hash == key.hash && Objects.equals(method, key.method) && Objects.equals(codeRef, key.codeRef)
+					&& Objects.equals(arguments, key.arguments);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	/**
+	 * Cached value, the ID is null if it's not possible to calculate
+	 */
+	private static final class Entry {
+		private final TestCaseIdEntry testCaseId;
+
+		private Entry(@Nullable TestCaseIdEntry id) {
+			testCaseId = id;
+		}
+	}
+
+	private final Map<Key, Entry> cache;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	public TestCaseIdCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity maximum number of cached IDs
+	 */
+	public TestCaseIdCache(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Cache capacity should be a positive number");
+		}
+		cache = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Returns a cached Test Case ID or calculates and caches it. The calculation is done outside the cache lock, so
+	 * concurrent misses of the same key may calculate the same ID twice.
+	 *
+	 * @param method     step definition method, if any
+	 * @param codeRef    code reference
+	 * @param arguments  step or scenario arguments
+	 * @param calculator calculates the ID on cache miss
+	 * @return Test Case ID or null if it's not possible to calculate
+	 */
+	@Nullable
+	public TestCaseIdEntry get(@Nullable Method method, @Nullable String codeRef, @Nullable List<?> arguments,
+			@Nonnull Supplier<TestCaseIdEntry> calculator) {
+		Key key = new Key(method, codeRef, arguments);
+		Entry entry;
+		synchronized (cache) {
+			entry = cache.get(key);
+		}
+		if (entry != null) {
+			hits.incrementAndGet();
+			return entry.testCaseId;
+		}
+		misses.incrementAndGet();
+		entry = new Entry(calculator.get());
+		synchronized (cache) {
+			cache.put(key, entry);
+		}
+		return entry.testCaseId;
+	}
+
+	/**
+	 * @return number of IDs returned from the cache
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * @return number of calculated IDs
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * @return number of cached IDs
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+}
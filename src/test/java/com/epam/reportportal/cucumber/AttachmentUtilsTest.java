@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.util.AttachmentUtils;
+import com.epam.reportportal.message.TypeAwareByteSource;
+import com.epam.reportportal.utils.MimeTypeDetector;
+import com.epam.reportportal.utils.files.ByteSource;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Objects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class AttachmentUtilsTest {
+
+	private static byte[] readFile(String name) throws IOException {
+		return IOUtils.toByteArray(Objects.requireNonNull(AttachmentUtilsTest.class.getClassLoader()
+				.getResourceAsStream("files/" + name)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "demo.zip", "plain.txt", "test.pdf", "unlucky.jpg" })
+	public void verify_header_detection_gives_the_same_type_as_full_detection(String file) throws IOException {
+		byte[] data = readFile(file);
+		assertThat(AttachmentUtils.detect(data), equalTo(MimeTypeDetector.detect(ByteSource.wrap(data), null)));
+	}
+
+	@Test
+	public void verify_wrapped_data_is_not_copied() throws IOException {
+		byte[] data = readFile("unlucky.jpg");
+		TypeAwareByteSource source = AttachmentUtils.wrap(data, "image/jpeg");
+
+		assertThat(source.read(), sameInstance(data));
+		assertThat(source.getMediaType(), equalTo("image/jpeg"));
+		assertThat(IOUtils.toByteArray(source.openStream()), equalTo(data));
+	}
+
+	@Test
+	public void verify_spooled_data_is_read_once_and_removed(@TempDir File directory) throws IOException {
+		byte[] data = readFile("test.pdf");
+		TypeAwareByteSource source = AttachmentUtils.spool(data, "application/pdf", directory);
+		assertThat(directory.listFiles(), arrayWithSize(1));
+
+		assertThat(source.getMediaType(), equalTo("application/pdf"));
+		assertThat(source.read(), equalTo(data));
+		assertThat(directory.listFiles(), emptyArray());
+	}
+
+	@Test
+	public void verify_discarded_spool_file_is_removed(@TempDir File directory) throws IOException {
+		TypeAwareByteSource source = AttachmentUtils.spool(readFile("plain.txt"), "text/plain", directory);
+		AttachmentUtils.discard(source);
+		assertThat(directory.listFiles(), emptyArray());
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.util.DataTableRenderer;
+import com.epam.reportportal.utils.formatting.MarkdownUtils;
+import gherkin.formatter.model.DataTableRow;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class DataTableRendererTest {
+
+	private static List<List<String>> table(int rows, int columns, int cellSize) {
+		return IntStream.range(0, rows)
+				.mapToObj(r -> IntStream.range(0, columns)
+						.mapToObj(c -> StringUtils.leftPad(r + "-" + c, cellSize + (r + c) % 3, 'x'))
+						.collect(Collectors.toList()))
+				.collect(Collectors.toList());
+	}
+
+	public static Stream<List<List<String>>> tables() {
+		return Stream.of(
+				Collections.emptyList(),
+				Collections.singletonList(Collections.singletonList("a")),
+				Arrays.asList(Arrays.asList("key", "value"), Arrays.asList("1", "one"), Arrays.asList("2", "two")),
+				Arrays.asList(Arrays.asList("a", "b", "c"), Collections.singletonList("d"), Arrays.asList("e", "f")),
+				table(3, 3, 5),
+				table(10, 5, 4),
+				table(2, 6, 20),
+				table(3, 8, 10),
+				table(1000, 5, 10),
+				table(20, 12, 15),
+				table(4, 4, 60)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("tables")
+	public void verify_renderer_output_is_the_same_as_client_formatter(List<List<String>> table) {
+		assertThat(new DataTableRenderer().format(table), equalTo(MarkdownUtils.formatDataTable(table)));
+	}
+
+	@Test
+	public void verify_rows_and_columns_truncation() {
+		List<List<String>> table = table(5000, 8, 3);
+		String result = new DataTableRenderer(11, 3).format(table);
+
+		List<List<String>> expectedTable = table.subList(0, 11).stream().map(r -> r.subList(0, 3)).collect(Collectors.toList());
+		String expected = MarkdownUtils.formatDataTable(expectedTable) + "\n" + MarkdownUtils.TABLE_INDENT + "4989 more rows\n"
+				+ MarkdownUtils.TABLE_INDENT + "5 more columns";
+		assertThat(result, equalTo(expected));
+	}
+
+	@Test
+	public void verify_table_is_not_truncated_within_limits() {
+		List<List<String>> table = table(10, 3, 3);
+		assertThat(new DataTableRenderer(10, 3).format(table), equalTo(MarkdownUtils.formatDataTable(table)));
+	}
+
+	@Test
+	public void verify_same_rows_are_rendered_once() {
+		DataTableRenderer renderer = new DataTableRenderer();
+		List<DataTableRow> rows = new ArrayList<>();
+		rows.add(new DataTableRow(Collections.emptyList(), Arrays.asList("key", "value"), 1));
+		rows.add(new DataTableRow(Collections.emptyList(), Arrays.asList("1", "one"), 2));
+
+		String first = renderer.render(rows);
+		assertThat(renderer.render(rows), sameInstance(first));
+
+		List<DataTableRow> otherRows = new ArrayList<>(rows);
+		String other = renderer.render(otherRows);
+		assertThat(other, not(sameInstance(first)));
+		assertThat(other, equalTo(first));
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.util.ReporterFixture;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class FeaturePipeliningTest {
+
+	private final ReporterFixture fixture = new ReporterFixture();
+	private final ReportPortal reportPortal = fixture.getReportPortal();
+	private final Launch launch = fixture.getLaunch();
+	private final Maybe<String> rootId = fixture.getRootId();
+	private final Maybe<String> featureId = Maybe.just("feature");
+
+	private final ScenarioReporter reporter = new ScenarioReporter() {
+		@Override
+		protected ReportPortal buildReportPortal() {
+			return reportPortal;
+		}
+
+		@Override
+		protected boolean isFeaturePipelining() {
+			return true;
+		}
+	};
+
+	@BeforeEach
+	public void setup() {
+		when(launch.startTestItem(same(rootId), any())).thenReturn(featureId);
+	}
+
+	@Test
+	public void verify_feature_is_started_before_its_first_scenario() {
+		ReporterFixture.startFeature(reporter, "Pipelining");
+
+		ArgumentCaptor<StartTestItemRQ> featureRq = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch).startTestItem(same(rootId), featureRq.capture());
+		assertThat(featureRq.getValue().getName(), equalTo("Feature: Pipelining"));
+
+		reporter.startOfScenarioLifeCycle(ReporterFixture.scenario("Pipelined", ReporterFixture.SCENARIO_LINE));
+
+		verify(launch, times(1)).startTestItem(same(rootId), any());
+		verify(launch).startTestItem(same(featureId), any());
+	}
+
+	@Test
+	public void verify_empty_pipelined_feature_is_finished() {
+		ReporterFixture.startFeature(reporter, "Pipelining");
+		reporter.eof();
+
+		verify(launch).finishTestItem(same(featureId), any());
+		assertThat(reporter.getContextRegistry().getFeatureCount(), equalTo(0));
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.util.ReporterFixture;
+import com.epam.reportportal.cucumber.util.InFlightWindow;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.when;
+
+public class InFlightWindowTest {
+
+	@Test
+	public void verify_request_waits_for_window() throws Exception {
+		InFlightWindow window = new InFlightWindow(2, InFlightWindow.Strategy.BLOCK);
+		MaybeSubject<String> first = MaybeSubject.create();
+		MaybeSubject<String> second = MaybeSubject.create();
+		window.send(() -> first);
+		window.send(() -> second);
+		assertThat(window.getInFlightCount(), equalTo(2));
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Maybe<String>> third = executor.submit(() -> window.send(() -> Maybe.just("third")));
+			assertThrows(TimeoutException.class, () -> third.get(200, TimeUnit.MILLISECONDS));
+
+			first.onSuccess("first");
+			assertThat(third.get(10, TimeUnit.SECONDS).blockingGet(), equalTo("third"));
+		} finally {
+			executor.shutdownNow();
+		}
+		assertThat(window.getInFlightCount(), equalTo(1));
+		assertThat(window.getMaxInFlightCount(), equalTo(2));
+		assertThat(window.getBlockedCount(), equalTo(1L));
+		assertThat(window.getBlockedTime(), greaterThan(0L));
+	}
+
+	@Test
+	public void verify_window_is_released_on_error_and_empty_completion() {
+		InFlightWindow window = new InFlightWindow(1, InFlightWindow.Strategy.BLOCK, 0);
+		window.send(() -> Maybe.error(new IllegalStateException("Request failed")));
+		window.send(Maybe::empty);
+		window.send(() -> Maybe.just("id"));
+
+		assertThat(window.getInFlightCount(), equalTo(0));
+		assertThat(window.getBlockedCount(), equalTo(0L));
+	}
+
+	@Test
+	public void verify_request_is_sent_above_limit_after_timeout() {
+		InFlightWindow window = new InFlightWindow(1, InFlightWindow.Strategy.BLOCK, 10);
+		MaybeSubject<String> first = MaybeSubject.create();
+		MaybeSubject<String> second = MaybeSubject.create();
+		window.send(() -> first);
+		window.send(() -> second);
+		assertThat(window.getInFlightCount(), equalTo(2));
+		assertThat(window.getOverflowCount(), equalTo(1L));
+
+		second.onSuccess("second");
+		first.onSuccess("first");
+		assertThat(window.getInFlightCount(), equalTo(0));
+
+		// the request above the limit does not add a permit
+		MaybeSubject<String> third = MaybeSubject.create();
+		window.send(() -> third);
+		window.send(() -> Maybe.just("fourth"));
+		assertThat(window.getOverflowCount(), equalTo(2L));
+	}
+
+	@Test
+	public void verify_overflowed_window_does_not_wait_until_request_completes() {
+		InFlightWindow window = new InFlightWindow(1, InFlightWindow.Strategy.BLOCK, 100);
+		MaybeSubject<String> first = MaybeSubject.create();
+		window.send(() -> first);
+		window.send(MaybeSubject::create);
+		assertThat(window.isOverflowed(), equalTo(true));
+		assertThat(window.getBlockedCount(), equalTo(1L));
+
+		window.send(MaybeSubject::create);
+		window.send(MaybeSubject::create);
+		assertThat(window.getBlockedCount(), equalTo(1L));
+		assertThat(window.getOverflowCount(), equalTo(3L));
+
+		first.onSuccess("first");
+		window.send(() -> Maybe.just("fifth"));
+		assertThat(window.isOverflowed(), equalTo(false));
+		assertThat(window.getOverflowCount(), equalTo(3L));
+	}
+
+	@Test
+	public void verify_null_request_response_is_replaced_with_empty() {
+		InFlightWindow window = new InFlightWindow(1, InFlightWindow.Strategy.BLOCK, 0);
+		Maybe<String> response = window.send(() -> null);
+
+		assertThat(response, notNullValue());
+		assertThat(response.isEmpty().blockingGet(), equalTo(true));
+		assertThat(window.getInFlightCount(), equalTo(0));
+	}
+
+	@Test
+	public void verify_logs_are_shed_only_in_full_window() {
+		InFlightWindow shedding = new InFlightWindow(1, InFlightWindow.Strategy.SHED_LOGS);
+		InFlightWindow blocking = new InFlightWindow(1, InFlightWindow.Strategy.BLOCK);
+		assertThat(shedding.shedLog(), equalTo(false));
+
+		shedding.send(MaybeSubject::create);
+		blocking.send(MaybeSubject::create);
+
+		assertThat(shedding.shedLog(), equalTo(true));
+		assertThat(blocking.shedLog(), equalTo(false));
+		assertThat(shedding.getShedLogCount(), equalTo(1L));
+		assertThat(blocking.getShedLogCount(), equalTo(0L));
+	}
+
+	@Test
+	public void verify_reporter_sheds_logs_while_items_are_in_flight() {
+		ReporterFixture fixture = new ReporterFixture();
+		Launch launch = fixture.getLaunch();
+		Maybe<String> featureId = Maybe.just("feature");
+		MaybeSubject<String> scenarioId = MaybeSubject.create();
+		when(launch.startTestItem(same(fixture.getRootId()), any())).thenReturn(featureId);
+		when(launch.startTestItem(same(featureId), any())).thenReturn(scenarioId);
+
+		ScenarioReporter reporter = new ScenarioReporter() {
+			@Override
+			protected ReportPortal buildReportPortal() {
+				return fixture.getReportPortal();
+			}
+
+			@Override
+			protected InFlightWindow buildInFlightWindow() {
+				return new InFlightWindow(1, InFlightWindow.Strategy.SHED_LOGS, 0);
+			}
+		};
+
+		ReporterFixture.startFeature(reporter, "Window");
+		ReporterFixture.startScenario(reporter, ReporterFixture.scenario("Window", ReporterFixture.SCENARIO_LINE));
+		InFlightWindow window = reporter.getInFlightWindow();
+		assertThat(window.getInFlightCount(), greaterThanOrEqualTo(1));
+		reporter.write("dropped output");
+		reporter.embedding("text/plain", "dropped attachment".getBytes());
+		assertThat(window.getShedLogCount(), equalTo(2L));
+
+		scenarioId.onSuccess("scenario");
+		assertThat(window.getInFlightCount(), equalTo(0));
+		reporter.write("sent output");
+		assertThat(window.getShedLogCount(), equalTo(2L));
+	}
+}
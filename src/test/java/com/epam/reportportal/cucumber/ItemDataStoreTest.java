@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.util.ItemDataStore;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ItemDataStoreTest {
+
+	private static List<Maybe<String>> itemIds(int number) {
+		return IntStream.range(0, number).mapToObj(i -> Maybe.just("item_" + i)).collect(Collectors.toList());
+	}
+
+	@Test
+	public void verify_item_data_is_removed_on_demand() {
+		ItemDataStore store = new ItemDataStore();
+		Maybe<String> itemId = Maybe.just("item");
+		RuntimeException error = new RuntimeException();
+		store.putDescription(itemId, "description");
+		store.putError(itemId, error);
+
+		assertThat(store.size(), equalTo(1));
+		assertThat(store.getDescription(itemId), equalTo("description"));
+		assertThat(store.getError(itemId), sameInstance(error));
+
+		store.remove(itemId);
+
+		assertThat(store.size(), equalTo(0));
+		assertThat(store.getDescription(itemId), nullValue());
+		assertThat(store.getError(itemId), nullValue());
+		assertThat(store.getEvictionCount(), equalTo(0L));
+	}
+
+	@Test
+	public void verify_oldest_item_is_evicted_when_capacity_exceeded() {
+		ItemDataStore store = new ItemDataStore(3, ItemDataStore.EvictionPolicy.OLDEST_FIRST);
+		List<Maybe<String>> ids = itemIds(5);
+		ids.forEach(id -> store.putDescription(id, "description"));
+		// touching the first item does not save it for this policy
+		store.getDescription(ids.get(0));
+
+		assertThat(store.size(), equalTo(3));
+		assertThat(store.getEvictionCount(), equalTo(2L));
+		assertThat(store.getDescription(ids.get(0)), nullValue());
+		assertThat(store.getDescription(ids.get(1)), nullValue());
+		assertThat(store.getDescription(ids.get(4)), equalTo("description"));
+	}
+
+	@Test
+	public void verify_least_recently_used_item_is_evicted_when_capacity_exceeded() {
+		ItemDataStore store = new ItemDataStore(2, ItemDataStore.EvictionPolicy.LEAST_RECENTLY_USED);
+		List<Maybe<String>> ids = itemIds(3);
+		store.putDescription(ids.get(0), "first");
+		store.putDescription(ids.get(1), "second");
+		store.putError(ids.get(0), new IllegalStateException());
+		store.putDescription(ids.get(2), "third");
+
+		assertThat(store.size(), equalTo(2));
+		assertThat(store.getEvictionCount(), equalTo(1L));
+		assertThat(store.getDescription(ids.get(0)), equalTo("first"));
+		assertThat(store.getDescription(ids.get(1)), nullValue());
+	}
+
+	@Test
+	public void verify_null_values_are_ignored() {
+		ItemDataStore store = new ItemDataStore();
+		store.putDescription(null, "description");
+		store.putError(null, new RuntimeException());
+		store.putError(Maybe.just("item"), null);
+
+		assertThat(store.size(), equalTo(0));
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.util.ReporterFixture;
+import com.epam.reportportal.cucumber.util.ItemTreeUtils;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.tree.TestItemTree;
+import gherkin.formatter.model.Result;
+import gherkin.formatter.model.Scenario;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.when;
+
+public class ItemTreeTest {
+
+	private static final String FEATURE_URI = ReporterFixture.FEATURE_URI;
+
+	@Test
+	public void verify_line_keys_are_cached() {
+		assertThat(ItemTreeUtils.createKey(12), sameInstance(ItemTreeUtils.createKey(12)));
+		assertThat(ItemTreeUtils.createKey(12), equalTo(TestItemTree.ItemTreeKey.of("12")));
+		assertThat(ItemTreeUtils.createKey(100000), equalTo(TestItemTree.ItemTreeKey.of("100000")));
+	}
+
+	@Test
+	public void verify_item_tree_is_filled_through_context_leaves() {
+		ReporterFixture fixture = new ReporterFixture();
+		fixture.getParameters().setCallbackReportingEnabled(true);
+		Launch launch = fixture.getLaunch();
+		Maybe<String> featureId = Maybe.just("feature");
+		Maybe<String> scenarioId = Maybe.just("scenario");
+		Maybe<String> stepId = Maybe.just("step");
+		when(launch.startTestItem(same(fixture.getRootId()), any())).thenReturn(featureId);
+		when(launch.startTestItem(same(featureId), any())).thenReturn(scenarioId);
+		when(launch.startTestItem(same(scenarioId), any())).thenReturn(stepId);
+
+		ScenarioReporter reporter = new ScenarioReporter() {
+			@Override
+			protected ReportPortal buildReportPortal() {
+				return fixture.getReportPortal();
+			}
+		};
+
+		Scenario scenario = ReporterFixture.scenario("Tree", 3);
+		ReporterFixture.startFeature(reporter, "Tree");
+		ReporterFixture.startScenario(reporter, scenario, Result.PASSED);
+		reporter.match(ReporterFixture.match(0));
+
+		Optional<TestItemTree.TestItemLeaf> stepLeaf = ItemTreeUtils.retrieveLeaf(FEATURE_URI, 3, "step 0", AbstractReporter.ITEM_TREE);
+		assertThat(stepLeaf.isPresent(), equalTo(true));
+		assertThat(stepLeaf.get().getItemId(), sameInstance(stepId));
+		assertThat(ItemTreeUtils.retrieveLeaf(FEATURE_URI, 3, AbstractReporter.ITEM_TREE).map(TestItemTree.TestItemLeaf::getItemId)
+				.orElse(null), sameInstance(scenarioId));
+
+		reporter.result(ReporterFixture.result(Result.PASSED));
+		reporter.endOfScenarioLifeCycle(scenario);
+
+		Optional<TestItemTree.TestItemLeaf> featureLeaf = ItemTreeUtils.retrieveLeaf(FEATURE_URI, AbstractReporter.ITEM_TREE);
+		assertThat(featureLeaf.isPresent(), equalTo(true));
+		assertThat(featureLeaf.get().getChildItems().keySet(), empty());
+	}
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.util.JournalUploader;
+import com.epam.reportportal.cucumber.util.ReportJournal;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.reactivex.Maybe;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+/**
+ * Uploads a journal through the real client to a local stub of Report Portal API
+ */
+public class JournalUploaderTest {
+
+	private static final int FEATURE_NUMBER = 8;
+	private static final int SCENARIO_NUMBER = 3;
+	private static final int STEP_NUMBER = 2;
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	/**
+	 * Server side order of item starts and finishes
+	 */
+	private final List<String> started = Collections.synchronizedList(new ArrayList<>());
+	private final Map<String, String> parents = Collections.synchronizedMap(new HashMap<>());
+	private final List<String> finished = Collections.synchronizedList(new ArrayList<>());
+	private final List<String> launchFinishes = Collections.synchronizedList(new ArrayList<>());
+	/**
+	 * Features which are started and not finished on the server side
+	 */
+	private final Set<String> openFeatures = new HashSet<>();
+	private int maxOpenFeatures;
+	private int logNumber;
+
+	private HttpServer server;
+
+	@BeforeEach
+	public void startServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.setExecutor(Executors.newFixedThreadPool(4));
+		server.createContext("/", this::handle);
+		server.start();
+	}
+
+	@AfterEach
+	public void stopServer() {
+		server.stop(0);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		String method = exchange.getRequestMethod();
+		byte[] body = IOUtils.toByteArray(exchange.getRequestBody());
+		String response;
+		if ("POST".equals(method) && path.matches(".*/item(/[^/]+)?")) {
+			JsonNode rq = MAPPER.readTree(body);
+			String id = rq.hasNonNull("uuid") ? rq.get("uuid").asText() : UUID.randomUUID().toString();
+			String parent = path.endsWith("/item") ? null : path.substring(path.lastIndexOf('/') + 1);
+			synchronized (started) {
+				if (parent != null) {
+					parents.put(id, parent);
+				}
+				started.add(id);
+				if ("STORY".equals(rq.path("type").asText())) {
+					openFeatures.add(id);
+					maxOpenFeatures = Math.max(maxOpenFeatures, openFeatures.size());
+				}
+			}
+			response = "{\"id\":\"" + id + "\"}";
+		} else if ("PUT".equals(method) && path.matches(".*/item/[^/]+")) {
+			String id = path.substring(path.lastIndexOf('/') + 1);
+			synchronized (started) {
+				openFeatures.remove(id);
+			}
+			finished.add(id);
+			response = "{\"message\":\"finished\"}";
+		} else if ("POST".equals(method) && path.endsWith("/launch")) {
+			JsonNode rq = MAPPER.readTree(body);
+			String id = rq.hasNonNull("uuid") ? rq.get("uuid").asText() : UUID.randomUUID().toString();
+			response = "{\"id\":\"" + id + "\",\"number\":1}";
+		} else if ("PUT".equals(method) && path.endsWith("/finish")) {
+			synchronized (started) {
+				launchFinishes.add(path);
+			}
+			response = "{\"message\":\"finished\"}";
+		} else if ("POST".equals(method) && path.endsWith("/log")) {
+			String text = new String(body, StandardCharsets.ISO_8859_1);
+			synchronized (this) {
+				logNumber += text.split("journal log", -1).length - 1;
+				notifyAll();
+			}
+			response = "{\"responses\":[]}";
+		} else {
+			response = "{}";
+		}
+		byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream os = exchange.getResponseBody()) {
+			os.write(bytes);
+		}
+	}
+
+	private synchronized int awaitLogs(int expected) throws InterruptedException {
+		// the last log batch is sent after the launch finish call returns
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+		long remaining;
+		while (logNumber < expected && (remaining = deadline - System.currentTimeMillis()) > 0) {
+			wait(remaining);
+		}
+		return logNumber;
+	}
+
+	private static StartTestItemRQ startRq(String name, String type, long time) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(name);
+		rq.setType(type);
+		rq.setStartTime(new Date(time));
+		return rq;
+	}
+
+	private static FinishTestItemRQ finishRq(long time) {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setEndTime(new Date(time));
+		rq.setStatus("PASSED");
+		return rq;
+	}
+
+	private static File writeJournal(File file) throws IOException {
+		ReportJournal journal = ReportJournal.create(file);
+		long time = 1000;
+		StartLaunchRQ launchRq = new StartLaunchRQ();
+		launchRq.setName("Journal upload");
+		launchRq.setStartTime(new Date(time));
+		journal.startLaunch(launchRq);
+		Maybe<String> root = journal.startItem(null, startRq("Root User Story", "SUITE", time));
+		for (int f = 0; f < FEATURE_NUMBER; f++) {
+			Maybe<String> feature = journal.startItem(root, startRq("Feature " + f, "STORY", ++time));
+			for (int s = 0; s < SCENARIO_NUMBER; s++) {
+				Maybe<String> scenario = journal.startItem(feature, startRq("Scenario " + s, "STEP", ++time));
+				for (int st = 0; st < STEP_NUMBER; st++) {
+					Maybe<String> step = journal.startItem(scenario, startRq("Step " + st, "STEP", ++time));
+					SaveLogRQ log = new SaveLogRQ();
+					log.setMessage("journal log");
+					log.setLevel("INFO");
+					log.setLogTime(new Date(++time));
+					journal.log(step, log);
+					journal.finishItem(step, finishRq(++time));
+				}
+				journal.finishItem(scenario, finishRq(++time));
+			}
+			journal.finishItem(feature, finishRq(++time));
+		}
+		journal.finishItem(root, finishRq(++time));
+		FinishExecutionRQ finishRq = new FinishExecutionRQ();
+		finishRq.setEndTime(new Date(++time));
+		journal.finishLaunch(finishRq);
+		journal.close();
+		return file;
+	}
+
+	private ReportPortal reportPortal() {
+		ListenerParameters parameters = new ListenerParameters();
+		parameters.setEnable(true);
+		parameters.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+		parameters.setApiKey("test_key");
+		parameters.setProjectName("test-project");
+		parameters.setLaunchName("Journal upload");
+		// the client blocks one IO thread on the launch finish
+		parameters.setIoPoolSize(4);
+		return ReportPortal.builder().withParameters(parameters).build();
+	}
+
+	@Test
+	public void verify_journal_is_uploaded_in_parallel_keeping_item_order(@TempDir File directory) throws IOException, InterruptedException {
+		File journal = writeJournal(new File(directory, "journal.rpj"));
+
+		new JournalUploader(reportPortal()::newLaunch, 4).upload(journal);
+
+		int itemNumber = 1 + FEATURE_NUMBER * (1 + SCENARIO_NUMBER * (1 + STEP_NUMBER));
+		assertThat(started, hasSize(itemNumber));
+		assertThat(new HashSet<>(finished), hasSize(itemNumber));
+		assertThat(finished, hasSize(itemNumber));
+		assertThat(launchFinishes, hasSize(1));
+		int expectedLogs = FEATURE_NUMBER * SCENARIO_NUMBER * STEP_NUMBER;
+		assertThat(awaitLogs(expectedLogs), equalTo(expectedLogs));
+
+		for (Map.Entry<String, String> child : parents.entrySet()) {
+			// parents are started before and finished after their children
+			assertThat(started.indexOf(child.getValue()), lessThan(started.indexOf(child.getKey())));
+			assertThat(finished.indexOf(child.getValue()), greaterThan(finished.indexOf(child.getKey())));
+		}
+	}
+
+	@Test
+	public void verify_parallelism_bounds_subtrees_in_flight(@TempDir File directory) throws IOException {
+		File journal = writeJournal(new File(directory, "journal.rpj"));
+
+		new JournalUploader(reportPortal()::newLaunch, 2).upload(journal);
+
+		assertThat(finished, hasSize(1 + FEATURE_NUMBER * (1 + SCENARIO_NUMBER * (1 + STEP_NUMBER))));
+		assertThat(maxOpenFeatures, allOf(greaterThan(0), lessThanOrEqualTo(2)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_log_after_item_finish_is_sent_to_the_item(@TempDir File directory) throws IOException {
+		ReportJournal journal = ReportJournal.create(new File(directory, "journal.rpj"));
+		StartLaunchRQ launchRq = new StartLaunchRQ();
+		launchRq.setName("Late log");
+		launchRq.setStartTime(new Date(1000));
+		journal.startLaunch(launchRq);
+		Maybe<String> root = journal.startItem(null, startRq("Root User Story", "SUITE", 1000));
+		Maybe<String> feature = journal.startItem(root, startRq("Feature", "STORY", 1001));
+		Maybe<String> scenario = journal.startItem(feature, startRq("Scenario", "STEP", 1002));
+		journal.finishItem(scenario, finishRq(1003));
+		SaveLogRQ log = new SaveLogRQ();
+		log.setMessage("late log");
+		log.setLevel("INFO");
+		log.setLogTime(new Date(1004));
+		journal.log(scenario, log);
+		journal.finishItem(feature, finishRq(1005));
+		// two features make them subtrees, which are replayed in the recorded order
+		journal.finishItem(journal.startItem(root, startRq("Other feature", "STORY", 1006)), finishRq(1007));
+		journal.finishItem(root, finishRq(1008));
+		journal.close();
+
+		Launch launch = mock(Launch.class);
+		Maybe<String> scenarioId = Maybe.just("scenario");
+		when(launch.startTestItem(any())).thenReturn(Maybe.just("root"));
+		when(launch.startTestItem(any(), any())).thenAnswer(invocation -> {
+			StartTestItemRQ rq = invocation.getArgument(1);
+			return "Scenario".equals(rq.getName()) ? scenarioId : Maybe.just(rq.getName());
+		});
+		new JournalUploader(rq -> launch).upload(new File(directory, "journal.rpj"));
+
+		ArgumentCaptor<Function<String, SaveLogRQ>> captor = ArgumentCaptor.forClass(Function.class);
+		verify(launch).log(same(scenarioId), captor.capture());
+		assertThat(captor.getValue().apply("scenario").getMessage(), equalTo("late log"));
+		verify(launch, never()).log(any(Function.class));
+	}
+}
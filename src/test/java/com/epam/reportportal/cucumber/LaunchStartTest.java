@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.util.ReporterFixture;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class LaunchStartTest {
+
+	private final ReporterFixture fixture = new ReporterFixture();
+	private final ReportPortal reportPortal = fixture.getReportPortal();
+	private final Launch launch = fixture.getLaunch();
+	private final ListenerParameters parameters = fixture.getParameters();
+	private final Maybe<String> launchId = Maybe.just("launch_id");
+	private final AtomicInteger launchFinishes = new AtomicInteger();
+
+	private final ScenarioReporter reporter = new ScenarioReporter() {
+		@Override
+		protected ReportPortal buildReportPortal() {
+			return reportPortal;
+		}
+
+		@Override
+		protected void afterLaunch() {
+			launchFinishes.incrementAndGet();
+		}
+	};
+
+	@BeforeEach
+	public void setup() {
+		when(launch.start()).thenReturn(launchId);
+	}
+
+	@Test
+	public void verify_launch_starts_once_for_many_features() {
+		for (int i = 0; i < 100; i++) {
+			reporter.uri("feature_" + i);
+		}
+
+		verify(launch, times(1)).start();
+		assertThat(AbstractReporter.ITEM_TREE.getLaunchId(), sameInstance(launchId));
+	}
+
+	@Test
+	public void verify_launch_starts_once_for_concurrent_features() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		CyclicBarrier barrier = new CyclicBarrier(16);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < 16; i++) {
+				String uri = "feature_" + i;
+				futures.add(executor.submit(() -> {
+					barrier.await(10, TimeUnit.SECONDS);
+					reporter.uri(uri);
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		verify(launch, times(1)).start();
+	}
+
+	@Test
+	public void verify_failed_launch_start_is_retried() {
+		when(launch.start()).thenThrow(new IllegalStateException("Unable to start launch")).thenReturn(launchId);
+
+		assertThrows(IllegalStateException.class, () -> reporter.uri("feature"));
+		reporter.uri("another_feature");
+		reporter.uri("one_more_feature");
+
+		verify(launch, times(2)).start();
+		assertThat(AbstractReporter.ITEM_TREE.getLaunchId(), sameInstance(launchId));
+	}
+
+	@Test
+	public void verify_concurrent_feature_waits_for_launch_start_without_spinning() throws Exception {
+		CountDownLatch creating = new CountDownLatch(1);
+		CountDownLatch created = new CountDownLatch(1);
+		when(reportPortal.newLaunch(any())).thenAnswer(invocation -> {
+			creating.countDown();
+			created.await(10, TimeUnit.SECONDS);
+			return launch;
+		});
+
+		Thread first = new Thread(() -> reporter.uri("feature_1"));
+		Thread second = new Thread(() -> reporter.uri("feature_2"));
+		first.start();
+		assertThat(creating.await(10, TimeUnit.SECONDS), equalTo(true));
+		second.start();
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+		while (second.getState() != Thread.State.BLOCKED && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(second.getState(), equalTo(Thread.State.BLOCKED));
+
+		created.countDown();
+		first.join(TimeUnit.SECONDS.toMillis(10));
+		second.join(TimeUnit.SECONDS.toMillis(10));
+		verify(launch, times(1)).start();
+	}
+
+	@Test
+	public void verify_launch_finishes_once_and_does_not_restart() {
+		reporter.uri("feature");
+		reporter.close();
+		reporter.close();
+		reporter.uri("another_feature");
+
+		verify(launch, times(1)).start();
+		assertThat(launchFinishes.get(), equalTo(1));
+	}
+
+	@Test
+	public void verify_joined_launch_is_not_created_by_fork_without_features() {
+		parameters.setClientJoin(true);
+		reporter.close();
+
+		verify(reportPortal, never()).newLaunch(any());
+		assertThat(launchFinishes.get(), equalTo(0));
+	}
+
+	@Test
+	public void verify_not_joined_launch_is_finished_without_features() {
+		parameters.setClientJoin(false);
+		reporter.close();
+
+		assertThat(launchFinishes.get(), equalTo(1));
+	}
+
+	@Test
+	public void verify_joined_launch_is_finished_by_fork_with_features() {
+		parameters.setClientJoin(true);
+		reporter.uri("feature");
+		reporter.close();
+
+		verify(launch, times(1)).start();
+		assertThat(launchFinishes.get(), equalTo(1));
+	}
+}
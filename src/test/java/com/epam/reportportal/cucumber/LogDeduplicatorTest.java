@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.util.ReporterFixture;
+import com.epam.reportportal.cucumber.util.LogDeduplicator;
+import com.epam.reportportal.cucumber.util.LogPipeline;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import gherkin.formatter.model.Result;
+import gherkin.formatter.model.Scenario;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class LogDeduplicatorTest {
+
+	private static final Maybe<String> ITEM_ID = Maybe.just("item");
+	private static final Maybe<String> OTHER_ITEM_ID = Maybe.just("other");
+
+	private static List<String> messages(List<LogPipeline.LogEntry> entries) {
+		return entries.stream().map(LogPipeline.LogEntry::getMessage).collect(Collectors.toList());
+	}
+
+	private static ScenarioReporter reporter(ReporterFixture fixture, Maybe<String> stepId) {
+		return new ScenarioReporter() {
+			@Override
+			protected ReportPortal buildReportPortal() {
+				return fixture.getReportPortal();
+			}
+
+			@Override
+			protected LogDeduplicator buildLogDeduplicator() {
+				return new LogDeduplicator(this::emitLog);
+			}
+
+			@Override
+			protected Maybe<String> startStep(Maybe<String> scenarioId, StartTestItemRQ rq) {
+				return stepId;
+			}
+		};
+	}
+
+	@Test
+	public void verify_repeated_entries_are_collapsed_in_first_occurrence_order() {
+		List<LogPipeline.LogEntry> received = new ArrayList<>();
+		LogDeduplicator deduplicator = new LogDeduplicator(received::add);
+		deduplicator.log(new LogPipeline.LogEntry(ITEM_ID, "INFO", 1, "Before hook: a"));
+		deduplicator.log(new LogPipeline.LogEntry(ITEM_ID, "INFO", 2, "step output"));
+		deduplicator.log(new LogPipeline.LogEntry(ITEM_ID, "INFO", 3, "Before hook: a"));
+		deduplicator.log(new LogPipeline.LogEntry(ITEM_ID, "ERROR", 4, "Before hook: a"));
+		deduplicator.log(new LogPipeline.LogEntry(ITEM_ID, "INFO", 5, "Before hook: a"));
+		assertThat(received, empty());
+
+		deduplicator.flush(ITEM_ID);
+
+		assertThat(messages(received), contains("Before hook: a\n[repeated 3 times]", "step output", "Before hook: a"));
+		assertThat(received.stream().map(LogPipeline.LogEntry::getTime).collect(Collectors.toList()), contains(1L, 2L, 4L));
+		assertThat(deduplicator.getCollapsedCount(), equalTo(2L));
+	}
+
+	@Test
+	public void verify_entries_are_buffered_per_item() throws Exception {
+		List<LogPipeline.LogEntry> received = new ArrayList<>();
+		LogDeduplicator deduplicator = new LogDeduplicator(received::add);
+		deduplicator.log(new LogPipeline.LogEntry(ITEM_ID, "INFO", 1, "output"));
+		deduplicator.log(new LogPipeline.LogEntry(OTHER_ITEM_ID, "INFO", 2, "output"));
+		Thread thread = new Thread(() -> deduplicator.log(new LogPipeline.LogEntry(ITEM_ID, "INFO", 3, "output")));
+		thread.start();
+		thread.join();
+		assertThat(received, empty());
+
+		deduplicator.flush(ITEM_ID);
+		assertThat(messages(received), contains("output\n[repeated 2 times]"));
+		assertThat(received.get(0).getItemId(), sameInstance(ITEM_ID));
+
+		// the rest is flushed on the launch close
+		deduplicator.flush();
+		assertThat(received, hasSize(2));
+		assertThat(received.get(1).getItemId(), sameInstance(OTHER_ITEM_ID));
+		assertThat(deduplicator.getCollapsedCount(), equalTo(1L));
+	}
+
+	@Test
+	public void verify_messages_are_interned_across_items() {
+		List<LogPipeline.LogEntry> received = new ArrayList<>();
+		LogDeduplicator deduplicator = new LogDeduplicator(received::add);
+		deduplicator.log(new LogPipeline.LogEntry(ITEM_ID, "INFO", 1, new String("long step argument")));
+		deduplicator.log(new LogPipeline.LogEntry(OTHER_ITEM_ID, "INFO", 2, new String("long step argument")));
+		deduplicator.flush();
+
+		assertThat(received, hasSize(2));
+		assertThat(received.get(1).getMessage(), sameInstance(received.get(0).getMessage()));
+		assertThat(deduplicator.getInternHitCount(), equalTo(1L));
+		assertThat(deduplicator.getInternedCount(), equalTo(1));
+	}
+
+	@Test
+	public void verify_intern_capacity_is_limited() {
+		LogDeduplicator deduplicator = new LogDeduplicator(10, 1, e -> {
+		});
+		assertThat(deduplicator.intern("one"), equalTo("one"));
+		String two = new String("two");
+		assertThat(deduplicator.intern(two), sameInstance(two));
+		assertThat(deduplicator.getInternedCount(), equalTo(1));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_reporter_sends_collapsed_logs_before_step_finish() {
+		ReporterFixture fixture = new ReporterFixture();
+		Launch launch = fixture.getLaunch();
+		Maybe<String> stepId = Maybe.just("step");
+
+		ScenarioReporter reporter = reporter(fixture, stepId);
+
+		ReporterFixture.startFeature(reporter, "Dedup");
+		ReporterFixture.startScenario(reporter, ReporterFixture.scenario("Dedup", ReporterFixture.SCENARIO_LINE), Result.PASSED);
+		reporter.match(ReporterFixture.match(0));
+		for (int i = 0; i < 100; i++) {
+			reporter.write("the same output");
+		}
+		verify(launch, never()).log(same(stepId), any(Function.class));
+
+		reporter.result(ReporterFixture.result(Result.PASSED));
+
+		ArgumentCaptor<Function<String, SaveLogRQ>> captor = ArgumentCaptor.forClass(Function.class);
+		verify(launch).log(same(stepId), captor.capture());
+		assertThat(captor.getValue().apply("step").getMessage(), equalTo("the same output\n[repeated 100 times]"));
+		verify(launch).finishTestItem(same(stepId), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_logs_of_scenario_moved_to_another_thread_are_collapsed() throws Exception {
+		ReporterFixture fixture = new ReporterFixture();
+		Launch launch = fixture.getLaunch();
+		Maybe<String> stepId = Maybe.just("step");
+
+		ScenarioReporter reporter = reporter(fixture, stepId);
+
+		Scenario scenario = ReporterFixture.scenario("Moved", ReporterFixture.SCENARIO_LINE);
+		ExecutorService first = Executors.newSingleThreadExecutor();
+		ExecutorService second = Executors.newSingleThreadExecutor();
+		try {
+			first.submit(() -> {
+				ReporterFixture.startFeature(reporter, "Moved");
+				ReporterFixture.startScenario(reporter, scenario, Result.PASSED);
+				reporter.match(ReporterFixture.match(0));
+				reporter.write("the same output");
+				reporter.write("the same output");
+			}).get(1, TimeUnit.MINUTES);
+			second.submit(() -> {
+				reporter.bindScenario(ReporterFixture.FEATURE_URI, scenario.getLine());
+				reporter.write("the same output");
+				reporter.result(ReporterFixture.result(Result.PASSED));
+				reporter.endOfScenarioLifeCycle(scenario);
+			}).get(1, TimeUnit.MINUTES);
+		} finally {
+			first.shutdownNow();
+			second.shutdownNow();
+		}
+
+		ArgumentCaptor<Function<String, SaveLogRQ>> captor = ArgumentCaptor.forClass(Function.class);
+		verify(launch).log(same(stepId), captor.capture());
+		assertThat(captor.getValue().apply("step").getMessage(), equalTo("the same output\n[repeated 3 times]"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_logs_of_unfinished_items_are_sent_on_close() {
+		ReporterFixture fixture = new ReporterFixture();
+		Launch launch = fixture.getLaunch();
+		Maybe<String> stepId = Maybe.just("step");
+
+		ScenarioReporter reporter = reporter(fixture, stepId);
+
+		ReporterFixture.startFeature(reporter, "Unfinished");
+		ReporterFixture.startScenario(reporter, ReporterFixture.scenario("Unfinished", ReporterFixture.SCENARIO_LINE), Result.PASSED);
+		reporter.match(ReporterFixture.match(0));
+		reporter.write("unfinished output");
+		verify(launch, never()).log(same(stepId), any(Function.class));
+
+		reporter.close();
+		verify(launch).log(same(stepId), any(Function.class));
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporterWithLogPipeline;
+import com.epam.reportportal.cucumber.integration.feature.FailedSteps;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.cucumber.util.LogPipeline;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import cucumber.api.CucumberOptions;
+import cucumber.api.testng.AbstractTestNGCucumberTests;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.filterLogs;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class LogPipelineTest {
+
+	private static final Maybe<String> ITEM_ID = Maybe.just("item");
+
+	private static LogPipeline.LogEntry entry(int number) {
+		return new LogPipeline.LogEntry(ITEM_ID, "INFO", number, "message " + number);
+	}
+
+	private static List<String> messages(List<LogPipeline.LogEntry> entries) {
+		return entries.stream().map(LogPipeline.LogEntry::getMessage).collect(Collectors.toList());
+	}
+
+	/**
+	 * Consumer which holds the first batch until released, so the pipeline queue can be filled deterministically
+	 */
+	private static class GatedConsumer implements Consumer<List<LogPipeline.LogEntry>> {
+		private final CountDownLatch started = new CountDownLatch(1);
+		private final CountDownLatch gate = new CountDownLatch(1);
+		private final List<LogPipeline.LogEntry> received = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public void accept(List<LogPipeline.LogEntry> batch) {
+			started.countDown();
+			try {
+				gate.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			received.addAll(batch);
+		}
+	}
+
+	@Test
+	public void verify_all_entries_are_delivered_in_order_and_in_batches() {
+		List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+		List<LogPipeline.LogEntry> received = Collections.synchronizedList(new ArrayList<>());
+		LogPipeline pipeline = new LogPipeline(64, 10, LogPipeline.OverflowPolicy.BLOCK, 1, batch -> {
+			batchSizes.add(batch.size());
+			received.addAll(batch);
+		});
+		for (int i = 0; i < 1000; i++) {
+			pipeline.emit(entry(i));
+		}
+		assertThat(pipeline.flush(TimeUnit.SECONDS.toMillis(10)), equalTo(true));
+		pipeline.close();
+
+		assertThat(received, hasSize(1000));
+		for (int i = 0; i < 1000; i++) {
+			assertThat(received.get(i).getTime(), equalTo((long) i));
+		}
+		assertThat(batchSizes, everyItem(lessThanOrEqualTo(10)));
+		assertThat(pipeline.getEmittedCount(), equalTo(1000L));
+		assertThat(pipeline.getDroppedCount(), equalTo(0L));
+
+		SaveLogRQ rq = received.get(0).toSaveLogRq("uuid");
+		assertThat(rq.getItemUuid(), equalTo("uuid"));
+		assertThat(rq.getLevel(), equalTo("INFO"));
+		assertThat(rq.getLogTime().getTime(), equalTo(0L));
+		assertThat(rq.getMessage(), equalTo("message 0"));
+	}
+
+	@Test
+	public void verify_drop_oldest_policy_keeps_newest_entries() throws InterruptedException {
+		GatedConsumer consumer = new GatedConsumer();
+		LogPipeline pipeline = new LogPipeline(3, 10, LogPipeline.OverflowPolicy.DROP_OLDEST, 1, consumer);
+		pipeline.emit(entry(0));
+		assertThat(consumer.started.await(10, TimeUnit.SECONDS), equalTo(true));
+		for (int i = 1; i <= 6; i++) {
+			pipeline.emit(entry(i));
+		}
+		assertThat(pipeline.getQueueSize(), equalTo(3));
+		consumer.gate.countDown();
+		pipeline.close();
+
+		assertThat(messages(consumer.received), contains("message 0", "message 4", "message 5", "message 6"));
+		assertThat(pipeline.getDroppedCount(), equalTo(3L));
+		assertThat(pipeline.getOverflowCount(), equalTo(3L));
+	}
+
+	@Test
+	public void verify_sample_policy_keeps_every_nth_overflowing_entry() throws InterruptedException {
+		GatedConsumer consumer = new GatedConsumer();
+		LogPipeline pipeline = new LogPipeline(2, 10, LogPipeline.OverflowPolicy.SAMPLE, 3, consumer);
+		pipeline.emit(entry(0));
+		assertThat(consumer.started.await(10, TimeUnit.SECONDS), equalTo(true));
+		// 1 and 2 fill the queue, 3..8 overflow: 5 and 8 are kept
+		for (int i = 1; i <= 8; i++) {
+			pipeline.emit(entry(i));
+		}
+		consumer.gate.countDown();
+		pipeline.close();
+
+		assertThat(messages(consumer.received), contains("message 0", "message 5", "message 8"));
+		assertThat(pipeline.getOverflowCount(), equalTo(6L));
+		assertThat(pipeline.getDroppedCount(), equalTo(6L));
+	}
+
+	@Test
+	public void verify_entries_are_dropped_after_close() {
+		List<LogPipeline.LogEntry> received = Collections.synchronizedList(new ArrayList<>());
+		LogPipeline pipeline = new LogPipeline(received::addAll);
+		pipeline.emit(entry(0));
+		pipeline.close();
+		pipeline.emit(entry(1));
+
+		assertThat(messages(received), contains("message 0"));
+		assertThat(pipeline.getDroppedCount(), equalTo(1L));
+		assertThat(pipeline.flush(0), equalTo(true));
+	}
+
+	@Test
+	public void verify_no_entry_is_lost_when_emitted_concurrently_with_close() throws Exception {
+		int threadNumber = 4;
+		int entryNumber = 10000;
+		List<LogPipeline.LogEntry> received = Collections.synchronizedList(new ArrayList<>());
+		LogPipeline pipeline = new LogPipeline(16, 4, LogPipeline.OverflowPolicy.DROP_OLDEST, 1, received::addAll);
+		ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+		CountDownLatch started = new CountDownLatch(threadNumber);
+		List<Future<?>> emitters = new ArrayList<>();
+		for (int t = 0; t < threadNumber; t++) {
+			emitters.add(executor.submit(() -> {
+				started.countDown();
+				for (int i = 0; i < entryNumber; i++) {
+					pipeline.emit(entry(i));
+				}
+			}));
+		}
+		try {
+			assertThat(started.await(10, TimeUnit.SECONDS), equalTo(true));
+			pipeline.close();
+			for (Future<?> emitter : emitters) {
+				emitter.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(pipeline.getQueueSize(), equalTo(0));
+		assertThat(pipeline.getEmittedCount(), equalTo((long) received.size()));
+		assertThat(pipeline.getEmittedCount() + pipeline.getDroppedCount(), equalTo((long) threadNumber * entryNumber));
+	}
+
+	@CucumberOptions(features = "src/test/resources/features/FailedScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.feature" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporterWithLogPipeline" })
+	public static class FailedScenarioPipelineReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_reporter_sends_step_logs_through_the_pipeline() {
+		String suiteId = CommonUtils.namedId("suite_");
+		String testId = CommonUtils.namedId("test_");
+		String scenarioId = CommonUtils.namedId("scenario_");
+		List<String> nestedStepIds = Stream.generate(() -> CommonUtils.namedId("nested_")).limit(3).collect(Collectors.toList());
+		ListenerParameters parameters = TestUtils.standardParameters();
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		TestUtils.mockLaunch(client, CommonUtils.namedId("launch_"), suiteId, testId, scenarioId);
+		TestUtils.mockNestedSteps(client, nestedStepIds.stream().map(id -> Pair.of(scenarioId, id)).collect(Collectors.toList()));
+		TestUtils.mockLogging(client);
+		TestScenarioReporterWithLogPipeline.RP.set(ReportPortal.create(client, parameters, executorService));
+		try {
+			TestUtils.runTests(FailedScenarioPipelineReporterTest.class);
+		} finally {
+			executorService.shutdown();
+		}
+
+		LogPipeline pipeline = TestScenarioReporterWithLogPipeline.PIPELINE.get();
+		assertThat(pipeline, notNullValue());
+		assertThat(pipeline.getEmittedCount(), greaterThan(0L));
+		assertThat(pipeline.getDroppedCount(), equalTo(0L));
+
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+		List<SaveLogRQ> errorLogs = filterLogs(logCaptor,
+				l -> l.getMessage() != null && l.getMessage().contains(FailedSteps.ERROR_MESSAGE)
+		);
+		assertThat(errorLogs, hasSize(1));
+		assertThat(errorLogs.get(0).getItemUuid(), equalTo(nestedStepIds.get(1)));
+	}
+}
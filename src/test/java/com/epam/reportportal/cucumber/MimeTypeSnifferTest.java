@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.util.MimeTypeSniffer;
+import com.epam.reportportal.utils.MimeTypeDetector;
+import com.epam.reportportal.utils.files.ByteSource;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class MimeTypeSnifferTest {
+
+	private static byte[] readFile(String name) throws IOException {
+		return IOUtils.toByteArray(Objects.requireNonNull(MimeTypeSnifferTest.class.getClassLoader()
+				.getResourceAsStream("files/" + name)));
+	}
+
+	private static String fullDetection(byte[] data) throws IOException {
+		return MimeTypeDetector.detect(ByteSource.wrap(data), null);
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "demo.zip,application/zip", "plain.txt,text/plain", "test.pdf,application/pdf", "unlucky.jpg,image/jpeg" })
+	public void verify_fixtures_are_detected_by_signature(String file, String type) throws IOException {
+		byte[] data = readFile(file);
+		MimeTypeSniffer sniffer = new MimeTypeSniffer();
+
+		assertThat(sniffer.detect(data), equalTo(type));
+		assertThat(fullDetection(data), equalTo(type));
+		assertThat(sniffer.getHitCount(), equalTo(1L));
+		assertThat(sniffer.getMissCount(), equalTo(0L));
+	}
+
+	@Test
+	public void verify_signatures_give_the_same_type_as_full_detection() throws IOException {
+		byte[][] prefixes = { { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' }, { 'G', 'I', 'F', '8', '9', 'a' },
+				{ (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0 }, { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1 },
+				{ (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xDB }, { 'P', 'K', 3, 4, 20, 0, 8 }, { 'P', 'K', 5, 6 },
+				{ '%', 'P', 'D', 'F' }, { 'R', 'I', 'F', 'F' }, { '<', 'h', 't', 'm', 'l', '>' }, { 'B', 'M' }, { 'a' } };
+		Random random = new Random(42);
+		for (byte[] prefix : prefixes) {
+			for (boolean text : new boolean[] { true, false }) {
+				byte[] data = Arrays.copyOf(prefix, 256);
+				for (int i = prefix.length; i < data.length; i++) {
+					data[i] = text ? (byte) ('a' + random.nextInt(26)) : (byte) random.nextInt(256);
+				}
+				String sniffed = MimeTypeSniffer.sniff(data);
+				if (sniffed != null) {
+					assertThat(Arrays.toString(prefix), sniffed, equalTo(fullDetection(data)));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void verify_json_is_detected() throws IOException {
+		MimeTypeSniffer sniffer = new MimeTypeSniffer();
+		assertThat(sniffer.detect(" {\"key\": [1, 2]}\n".getBytes(StandardCharsets.UTF_8)), equalTo("application/json"));
+		assertThat(sniffer.detect("[1, 2]".getBytes(StandardCharsets.UTF_8)), equalTo("application/json"));
+		assertThat(sniffer.detect("{ not a json".getBytes(StandardCharsets.UTF_8)), equalTo("text/plain"));
+		assertThat(sniffer.detect("[ ]".getBytes(StandardCharsets.UTF_8)), equalTo("application/json"));
+		assertThat(sniffer.detect("[true]".getBytes(StandardCharsets.UTF_8)), equalTo("application/json"));
+		assertThat(sniffer.detect("[{\"key\": null}]".getBytes(StandardCharsets.UTF_8)), equalTo("application/json"));
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = { "[INFO] Step started ... [done]", "[info] 1 test passed [ok]", "[1] first [2]",
+			"{ a block of text }", "{} and {}" })
+	public void verify_bracketed_text_is_not_detected_as_json(String text) throws IOException {
+		byte[] data = text.getBytes(StandardCharsets.UTF_8);
+		assertThat(new MimeTypeSniffer().detect(data), equalTo("text/plain"));
+		assertThat(fullDetection(data), equalTo("text/plain"));
+	}
+
+	@Test
+	public void verify_unknown_signatures_are_passed_to_full_detection() throws IOException {
+		byte[] data = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xDB, 0, 1, 2, 3 };
+		MimeTypeSniffer sniffer = new MimeTypeSniffer();
+
+		assertThat(sniffer.detect(data), equalTo(fullDetection(data)));
+		assertThat(sniffer.detect(data), equalTo(fullDetection(data)));
+		assertThat(sniffer.getHitCount(), equalTo(0L));
+		assertThat(sniffer.getMissCount(), equalTo(2L));
+	}
+}
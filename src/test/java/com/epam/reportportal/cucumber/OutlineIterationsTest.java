@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.util.ReporterFixture;
+import com.epam.reportportal.service.ReportPortal;
+import gherkin.formatter.model.Examples;
+import gherkin.formatter.model.ExamplesTableRow;
+import gherkin.formatter.model.Result;
+import gherkin.formatter.model.Scenario;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class OutlineIterationsTest {
+
+	@Test
+	public void verify_iterations_of_several_examples_are_taken_in_order() {
+		RunningContext.OutlineIterations iterations = new RunningContext.OutlineIterations();
+		for (int i = 1; i <= 6; i++) {
+			iterations.add(i % 3);
+		}
+		iterations.add(10000);
+		assertThat(iterations.size(), equalTo(10006));
+
+		List<Integer> taken = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			taken.add(iterations.poll());
+		}
+		assertThat(taken, contains(1, 1, 2, 1, 1, 2, 1, 2, 3, 4));
+		assertThat(iterations.size(), equalTo(9996));
+		while (!iterations.isEmpty()) {
+			iterations.poll();
+		}
+		assertThat(iterations.poll(), equalTo(RunningContext.OutlineIterations.NONE));
+		assertThat(iterations.size(), equalTo(0));
+
+		iterations.add(2);
+		assertThat(iterations.poll(), equalTo(1));
+	}
+
+	@Test
+	public void verify_iteration_label_is_formatted_on_demand() {
+		RunningContext.ScenarioContext context = new RunningContext.ScenarioContext();
+		assertThat(context.getOutlineIterationLabel(), nullValue());
+
+		context.setOutlineIteration(12);
+		String label = context.getOutlineIterationLabel();
+		assertThat(label, equalTo("[12]"));
+		assertThat(context.getOutlineIterationLabel(), sameInstance(label));
+	}
+
+	@Test
+	public void verify_reporter_provides_iteration_label_on_demand() {
+		ReporterFixture fixture = new ReporterFixture();
+		List<String> labels = new ArrayList<>();
+		ScenarioReporter reporter = new ScenarioReporter() {
+			@Override
+			protected ReportPortal buildReportPortal() {
+				return fixture.getReportPortal();
+			}
+
+			@Override
+			protected void beforeScenario(Scenario scenario) {
+				labels.add(getOutlineIterationLabel());
+				super.beforeScenario(scenario);
+			}
+		};
+
+		ReporterFixture.startFeature(reporter, "Outline");
+		List<ExamplesTableRow> rows = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			rows.add(new ExamplesTableRow(Collections.emptyList(), Collections.singletonList("value " + i), 5 + i, "row;" + i));
+		}
+		reporter.examples(new Examples(Collections.emptyList(), Collections.emptyList(), "Examples", "", "", 4, "examples", rows));
+		for (int i = 0; i < 2; i++) {
+			ReporterFixture.runScenario(reporter, ReporterFixture.scenario("Outline", 6 + i), Result.PASSED);
+		}
+		ReporterFixture.runScenario(reporter, ReporterFixture.scenario("Plain", 20), Result.PASSED);
+
+		assertThat(labels, contains("[1]", "[2]", null));
+	}
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.util.ReporterFixture;
+import com.epam.reportportal.cucumber.util.ItemTreeUtils;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.tree.TestItemTree;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import gherkin.formatter.model.*;
+import io.reactivex.Maybe;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Drives formatter events of many features from a thread pool and verifies every item gets the right parent
+ */
+public class ParallelFeaturesTest {
+
+	private static final int FEATURE_NUMBER = 500;
+	private static final int THREAD_NUMBER = 16;
+	private static final int SCENARIO_NUMBER = 3;
+	private static final int STEP_NUMBER = 3;
+	private static final Pattern FEATURE_NAME_PATTERN = Pattern.compile("\\bf\\d+\\b");
+
+	private final ReporterFixture fixture = new ReporterFixture();
+	private final Launch launch = fixture.getLaunch();
+
+	private final AtomicInteger idSequence = new AtomicInteger();
+	private final Map<String, String> names = new ConcurrentHashMap<>();
+	private final Map<String, String> parents = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> finishes = new ConcurrentHashMap<>();
+
+	private static class TestReporter extends ScenarioReporter {
+		private final ReportPortal reportPortal;
+
+		private TestReporter(ReportPortal rp) {
+			reportPortal = rp;
+		}
+
+		@Override
+		protected ReportPortal buildReportPortal() {
+			return reportPortal;
+		}
+	}
+
+	private TestReporter reporter;
+
+	private Maybe<String> startItem(String parentId, StartTestItemRQ rq) {
+		String id = "item_" + idSequence.incrementAndGet();
+		names.put(id, rq.getName());
+		if (parentId != null) {
+			parents.put(id, parentId);
+		}
+		return Maybe.just(id);
+	}
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		fixture.getParameters().setCallbackReportingEnabled(true);
+		when(launch.startTestItem(any())).thenAnswer(i -> startItem(null, i.getArgument(0)));
+		when(launch.startTestItem(any(), any())).thenAnswer(i -> startItem(((Maybe<String>) i.getArgument(0)).blockingGet(),
+				i.getArgument(1)
+		));
+		when(launch.finishTestItem(any(), any())).thenAnswer(i -> {
+			String id = ((Maybe<String>) i.getArgument(0)).blockingGet();
+			finishes.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+			return Maybe.empty();
+		});
+		reporter = new TestReporter(fixture.getReportPortal());
+	}
+
+	private static String uri(int feature) {
+		return "features/parallel/Feature" + feature + ".feature";
+	}
+
+	private static Scenario scenario(int feature, int scenario) {
+		return new Scenario(Collections.emptyList(),
+				Collections.emptyList(),
+				"Scenario",
+				"f" + feature + " s" + scenario,
+				"",
+				10 * (scenario + 1),
+				"feature" + feature + ";scenario" + scenario
+		);
+	}
+
+	private void startFeature(int feature) {
+		reporter.uri(uri(feature));
+		reporter.feature(new Feature(Collections.emptyList(),
+				Collections.emptyList(),
+				"Feature",
+				"f" + feature,
+				"",
+				1,
+				"feature" + feature
+		));
+	}
+
+	private Scenario startScenario(int feature, int scenarioNumber) {
+		Scenario scenario = scenario(feature, scenarioNumber);
+		reporter.startOfScenarioLifeCycle(scenario);
+		reporter.scenario(scenario);
+		for (int i = 0; i < STEP_NUMBER; i++) {
+			reporter.step(new Step(Collections.emptyList(),
+					"Given ",
+					"f" + feature + " s" + scenarioNumber + " step " + i,
+					scenario.getLine() + i + 1,
+					null,
+					null
+			));
+		}
+		return scenario;
+	}
+
+	private void runSteps(int feature, int from, int to) {
+		for (int i = from; i < to; i++) {
+			reporter.match(new Match(Collections.emptyList(), "Steps.step" + i + "()"));
+			reporter.write("f" + feature + " log");
+			reporter.result(new Result(Result.PASSED, 1L, null, null));
+		}
+	}
+
+	private void runScenario(int feature, int scenarioNumber) {
+		Scenario scenario = startScenario(feature, scenarioNumber);
+		runSteps(feature, 0, STEP_NUMBER);
+		reporter.endOfScenarioLifeCycle(scenario);
+	}
+
+	private void runFeature(int feature) {
+		startFeature(feature);
+		for (int i = 0; i < SCENARIO_NUMBER; i++) {
+			runScenario(feature, i);
+		}
+		reporter.eof();
+	}
+
+	private static String featureName(String itemName) {
+		Matcher matcher = FEATURE_NAME_PATTERN.matcher(itemName);
+		assertThat(itemName, matcher.find(), equalTo(true));
+		return matcher.group();
+	}
+
+	private void verifyItemTree(int featureNumber) {
+		String rootId = names.entrySet()
+				.stream()
+				.filter(e -> "Root User Story".equals(e.getValue()))
+				.map(Map.Entry::getKey)
+				.findAny()
+				.orElseThrow(() -> new AssertionError("No root item"));
+		List<String> features = new ArrayList<>();
+		List<String> scenarios = new ArrayList<>();
+		List<String> steps = new ArrayList<>();
+		for (Map.Entry<String, String> entry : names.entrySet()) {
+			String name = entry.getValue();
+			if (name.startsWith("Feature: ")) {
+				features.add(entry.getKey());
+				assertThat(parents.get(entry.getKey()), equalTo(rootId));
+			} else if (name.startsWith("Scenario: ")) {
+				scenarios.add(entry.getKey());
+				String featureId = parents.get(entry.getKey());
+				assertThat(names.get(featureId), equalTo("Feature: " + featureName(name)));
+			} else if (name.startsWith("Given ")) {
+				steps.add(entry.getKey());
+				String scenarioId = parents.get(entry.getKey());
+				String scenarioName = names.get(scenarioId);
+				assertThat(name, Matchers.startsWith("Given " + scenarioName.substring("Scenario: ".length()) + " step "));
+			}
+		}
+		assertThat(features, hasSize(featureNumber));
+		assertThat(scenarios, hasSize(featureNumber * SCENARIO_NUMBER));
+		assertThat(steps, hasSize(featureNumber * SCENARIO_NUMBER * STEP_NUMBER));
+		// all items are finished exactly once
+		assertThat(finishes.keySet(), hasSize(names.size()));
+		assertThat(finishes.values().stream().mapToInt(AtomicInteger::get).boxed().distinct().toArray(), arrayContaining(1));
+
+		assertThat(reporter.getContextRegistry().getFeatureCount(), equalTo(0));
+		assertThat(reporter.getContextRegistry().getScenarioCount(), equalTo(0));
+		for (int i = 0; i < featureNumber; i++) {
+			Optional<TestItemTree.TestItemLeaf> leaf = ItemTreeUtils.retrieveLeaf(uri(i), AbstractReporter.ITEM_TREE);
+			assertThat(leaf.isPresent(), equalTo(true));
+			assertThat(leaf.get().getChildItems().keySet(), empty());
+		}
+	}
+
+	@Test
+	public void verify_features_run_on_a_thread_pool_are_reported_correctly() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_NUMBER);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < FEATURE_NUMBER; i++) {
+				int feature = i;
+				futures.add(executor.submit(() -> runFeature(feature)));
+			}
+			for (Future<?> future : futures) {
+				future.get(1, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		reporter.close();
+
+		verify(launch, times(1)).start();
+		verifyItemTree(FEATURE_NUMBER);
+	}
+
+	@Test
+	public void verify_scenarios_can_move_between_threads() throws Exception {
+		int featureNumber = THREAD_NUMBER;
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_NUMBER);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < featureNumber; i++) {
+				int feature = i;
+				futures.add(executor.submit(() -> startFeature(feature)));
+			}
+			for (Future<?> future : futures) {
+				future.get(1, TimeUnit.MINUTES);
+			}
+			futures.clear();
+			// each scenario runs on an arbitrary thread, features are bound by their URIs
+			for (int i = 0; i < featureNumber; i++) {
+				int feature = i;
+				futures.add(executor.submit(() -> {
+					assertThat(reporter.bindFeature(uri(feature)), equalTo(true));
+					for (int j = 0; j < SCENARIO_NUMBER; j++) {
+						runScenario(feature, j);
+					}
+					reporter.eof();
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(1, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		reporter.close();
+
+		verifyItemTree(featureNumber);
+	}
+
+	@Test
+	public void verify_scenario_can_move_to_another_thread_in_the_middle() throws Exception {
+		ExecutorService first = Executors.newSingleThreadExecutor();
+		ExecutorService second = Executors.newSingleThreadExecutor();
+		try {
+			Scenario movedScenario = scenario(0, 0);
+			RunningContext.ScenarioContext movedContext = first.submit(() -> {
+				startFeature(0);
+				startScenario(0, 0);
+				runSteps(0, 0, 1);
+				return reporter.currentScenarioContext.get();
+			}).get(1, TimeUnit.MINUTES);
+
+			RunningContext.ScenarioContext nextContext = second.submit(() -> {
+				assertThat(reporter.bindScenario(uri(0), movedScenario.getLine()), equalTo(true));
+				runSteps(0, 1, STEP_NUMBER);
+				reporter.endOfScenarioLifeCycle(movedScenario);
+				Scenario scenario = startScenario(0, 1);
+				RunningContext.ScenarioContext context = reporter.currentScenarioContext.get();
+				runSteps(0, 0, STEP_NUMBER);
+				reporter.endOfScenarioLifeCycle(scenario);
+				return context;
+			}).get(1, TimeUnit.MINUTES);
+			// the moved context is still bound to the first thread, so it is not reused by the second one
+			assertThat(nextContext, not(sameInstance(movedContext)));
+
+			RunningContext.ScenarioContext firstThreadContext = first.submit(() -> {
+				Scenario scenario = startScenario(0, 2);
+				RunningContext.ScenarioContext context = reporter.currentScenarioContext.get();
+				runSteps(0, 0, STEP_NUMBER);
+				reporter.endOfScenarioLifeCycle(scenario);
+				reporter.eof();
+				return context;
+			}).get(1, TimeUnit.MINUTES);
+			// the stale binding of the first thread is dropped instead of being reused
+			assertThat(firstThreadContext, not(sameInstance(movedContext)));
+		} finally {
+			first.shutdownNow();
+			second.shutdownNow();
+		}
+		reporter.close();
+
+		verifyItemTree(1);
+	}
+}
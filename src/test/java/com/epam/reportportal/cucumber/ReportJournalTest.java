@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.util.ReporterFixture;
+import com.epam.reportportal.cucumber.util.ReportJournal;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import gherkin.formatter.model.Result;
+import gherkin.formatter.model.Scenario;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class ReportJournalTest {
+
+	@Test
+	public void verify_journal_events_are_read_in_order(@TempDir File directory) throws IOException {
+		File file = new File(directory, "journal.rpj");
+		ReportJournal journal = ReportJournal.create(file);
+		StartLaunchRQ launchRq = new StartLaunchRQ();
+		launchRq.setName("Journal launch");
+		journal.startLaunch(launchRq);
+		StartTestItemRQ itemRq = new StartTestItemRQ();
+		itemRq.setName("Root");
+		itemRq.setStartTime(new Date(1000));
+		Maybe<String> rootId = journal.startItem(null, itemRq);
+		Maybe<String> childId = journal.startItem(rootId, itemRq);
+		SaveLogRQ logRq = new SaveLogRQ();
+		logRq.setMessage("message");
+		SaveLogRQ.File logFile = new SaveLogRQ.File();
+		logFile.setContent(new byte[] { 1, 2, 3 });
+		logRq.setFile(logFile);
+		journal.log(childId, logRq);
+		journal.finishItem(childId, new FinishTestItemRQ());
+		journal.finishLaunch(new FinishExecutionRQ());
+		journal.close();
+		assertThat(journal.getEventCount(), equalTo(6L));
+
+		// a partially written event is ignored
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.setLength(raf.length() - 3);
+		}
+
+		List<ReportJournal.Event> events = new ArrayList<>();
+		assertThat(ReportJournal.read(file, events::add), equalTo(5L));
+		assertThat(events.get(0).getType(), equalTo(ReportJournal.EventType.START_LAUNCH));
+		assertThat(events.get(0).<StartLaunchRQ>getRequest().getName(), equalTo("Journal launch"));
+		assertThat(events.get(1).getParentId(), nullValue());
+		assertThat(events.get(1).<StartTestItemRQ>getRequest().getStartTime(), equalTo(new Date(1000)));
+		assertThat(events.get(2).getParentId(), equalTo(rootId.blockingGet()));
+		assertThat(events.get(2).getItemId(), equalTo(childId.blockingGet()));
+		assertThat(events.get(3).getType(), equalTo(ReportJournal.EventType.LOG));
+		assertThat(events.get(3).<SaveLogRQ>getRequest().getFile().getContent(), equalTo(new byte[] { 1, 2, 3 }));
+		assertThat(events.get(4).getType(), equalTo(ReportJournal.EventType.FINISH_ITEM));
+	}
+
+	@Test
+	public void verify_write_error_does_not_interrupt_reporting(@TempDir File directory) throws IOException {
+		File file = new File(directory, "journal.rpj");
+		ReportJournal journal = ReportJournal.create(file);
+		journal.startLaunch(new StartLaunchRQ());
+		journal.close();
+
+		Maybe<String> itemId = journal.startItem(null, new StartTestItemRQ());
+		journal.finishItem(itemId, new FinishTestItemRQ());
+
+		assertThat(itemId.blockingGet(), notNullValue());
+		assertThat(journal.isFailed(), equalTo(true));
+		assertThat(journal.getEventCount(), equalTo(1L));
+		assertThat(ReportJournal.read(file, e -> {
+		}), equalTo(1L));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_reporter_writes_journal_and_uploads_it_on_close(@TempDir File directory) {
+		ReporterFixture fixture = new ReporterFixture();
+		Launch launch = fixture.getLaunch();
+		File journalFile = new File(directory, "journal.rpj");
+
+		ScenarioReporter reporter = new ScenarioReporter() {
+			@Override
+			protected ReportPortal buildReportPortal() {
+				return fixture.getReportPortal();
+			}
+
+			@Override
+			protected File getJournalFile() {
+				return journalFile;
+			}
+		};
+
+		Scenario scenario = ReporterFixture.scenario("Offline", ReporterFixture.SCENARIO_LINE);
+		ReporterFixture.startFeature(reporter, "Offline");
+		ReporterFixture.startScenario(reporter, scenario, Result.PASSED);
+		reporter.match(ReporterFixture.match(0));
+		reporter.write("an offline log");
+		reporter.embedding("text/plain", "attachment".getBytes());
+		reporter.result(ReporterFixture.result(Result.PASSED));
+		reporter.endOfScenarioLifeCycle(scenario);
+		reporter.eof();
+
+		verify(launch, never()).start();
+		verify(launch, never()).startTestItem(any(), any());
+		assertThat(journalFile.length(), greaterThan(0L));
+
+		reporter.close();
+
+		verify(launch).start();
+		ArgumentCaptor<StartTestItemRQ> rootRq = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch).startTestItem(rootRq.capture());
+		assertThat(rootRq.getValue().getName(), equalTo("Root User Story"));
+		ArgumentCaptor<StartTestItemRQ> itemRqs = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, times(5)).startTestItem(any(), itemRqs.capture());
+		List<String> names = new ArrayList<>();
+		itemRqs.getAllValues().forEach(rq -> names.add(rq.getName()));
+		assertThat(names, hasItems("Feature: Offline", "Scenario: Offline", "Given step 0"));
+		verify(launch).startTestItem(same(fixture.getRootId()), any());
+		verify(launch, times(6)).finishTestItem(any(), any());
+
+		ArgumentCaptor<Function<String, SaveLogRQ>> logs = ArgumentCaptor.forClass(Function.class);
+		verify(launch, times(2)).log(any(Maybe.class), logs.capture());
+		SaveLogRQ attachment = logs.getAllValues().get(1).apply("item-uuid");
+		assertThat(attachment.getItemUuid(), equalTo("item-uuid"));
+		assertThat(attachment.getFile().getContent(), equalTo("attachment".getBytes()));
+		assertThat(attachment.getFile().getContentType(), equalTo("text/plain"));
+		verify(launch).finish(any());
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.util.ReporterFixture;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import gherkin.formatter.model.Scenario;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+public class ReporterClockTest {
+
+	/**
+	 * Deterministic clock which is moved manually
+	 */
+	private static class ManualClock extends Clock {
+		private volatile long millis;
+
+		private ManualClock(long startMillis) {
+			millis = startMillis;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis);
+		}
+	}
+
+	private final ReporterFixture fixture = new ReporterFixture();
+	private final ReportPortal reportPortal = fixture.getReportPortal();
+	private final Launch launch = fixture.getLaunch();
+	private final ManualClock clock = new ManualClock(1000);
+	// taken before the reporter is created, so the time passed since then is not less than the reporter's one
+	private final long creationNanoTime = System.nanoTime();
+
+	private final ScenarioReporter reporter = new ScenarioReporter() {
+		@Override
+		protected ReportPortal buildReportPortal() {
+			return reportPortal;
+		}
+
+		@Override
+		protected Clock buildClock() {
+			return clock;
+		}
+	};
+
+	@Test
+	public void verify_time_never_goes_backwards() {
+		assertThat(reporter.getCurrentTimeMillis(), equalTo(1000L));
+		clock.millis = 500;
+		assertThat(reporter.getCurrentTimeMillis(), equalTo(1000L));
+		clock.millis = 1500;
+		assertThat(reporter.getCurrentTime().getTime(), equalTo(1500L));
+	}
+
+	private static class FixedClockReporter extends ScenarioReporter {
+		private final Clock fixedClock = Clock.fixed(Instant.ofEpochMilli(3000), ZoneOffset.UTC);
+
+		@Override
+		protected Clock buildClock() {
+			return fixedClock;
+		}
+	}
+
+	@Test
+	public void verify_clock_is_built_after_subclass_initialization() {
+		assertThat(new FixedClockReporter().getCurrentTimeMillis(), equalTo(3000L));
+	}
+
+	@Test
+	public void verify_requests_use_reporter_clock() {
+		Scenario scenario = ReporterFixture.scenario("Clock", ReporterFixture.SCENARIO_LINE);
+		clock.millis = 1500;
+		ReporterFixture.startFeature(reporter, "Clock");
+		long sinceCreation = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - creationNanoTime);
+		clock.millis = 2000;
+		reporter.startOfScenarioLifeCycle(scenario);
+		// the system clock was adjusted backwards
+		clock.millis = 1200;
+		reporter.scenario(scenario);
+		reporter.step(ReporterFixture.step("a step", ReporterFixture.SCENARIO_LINE + 1));
+		reporter.match(ReporterFixture.match(0));
+
+		ArgumentCaptor<StartLaunchRQ> launchRq = ArgumentCaptor.forClass(StartLaunchRQ.class);
+		verify(reportPortal).newLaunch(launchRq.capture());
+		// the launch starts at the reporter creation time, which is calculated from the clock on the launch start
+		assertThat(launchRq.getValue().getStartTime().getTime(), allOf(lessThanOrEqualTo(1500L), greaterThanOrEqualTo(1500L - sinceCreation)));
+
+		ArgumentCaptor<StartTestItemRQ> rootRq = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch).startTestItem(rootRq.capture());
+		ArgumentCaptor<StartTestItemRQ> itemRqs = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, atLeastOnce()).startTestItem(any(), itemRqs.capture());
+
+		assertThat(rootRq.getValue().getStartTime().getTime(), equalTo(2000L));
+		List<StartTestItemRQ> items = itemRqs.getAllValues();
+		assertThat(items.stream().map(rq -> rq.getStartTime().getTime()).distinct().collect(Collectors.toList()), contains(2000L));
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.util.ReporterFixture;
+import com.epam.reportportal.cucumber.util.LatencyHistogram;
+import com.epam.reportportal.cucumber.util.ReporterMetrics;
+import com.epam.reportportal.service.ReportPortal;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gherkin.formatter.model.Result;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ReporterMetricsTest {
+
+	@Test
+	public void verify_histogram_percentiles_are_bucket_upper_bounds() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i);
+		}
+		histogram.record(-5);
+
+		assertThat(histogram.getCount(), equalTo(101L));
+		assertThat(histogram.getTotal(), equalTo(5050L));
+		assertThat(histogram.getMax(), equalTo(100L));
+		assertThat(histogram.getPercentile(0), equalTo(0L));
+		// 50th value is 49, it is in [32, 63] bucket
+		assertThat(histogram.getPercentile(50), equalTo(63L));
+		assertThat(histogram.getPercentile(99), equalTo(100L));
+		assertThat(new LatencyHistogram().getPercentile(50), equalTo(0L));
+	}
+
+	@Test
+	public void verify_reporter_collects_metrics_and_saves_them_on_close(@TempDir File directory) throws IOException {
+		ReporterFixture fixture = new ReporterFixture();
+		File metricsFile = new File(directory, "metrics.json");
+
+		ScenarioReporter reporter = new ScenarioReporter() {
+			@Override
+			protected ReportPortal buildReportPortal() {
+				return fixture.getReportPortal();
+			}
+
+			@Override
+			protected ReporterMetrics buildReporterMetrics() {
+				return new ReporterMetrics();
+			}
+
+			@Override
+			protected File getMetricsFile() {
+				return metricsFile;
+			}
+		};
+
+		ReporterFixture.startFeature(reporter, "Metrics");
+		ReporterFixture.runScenario(reporter, ReporterFixture.scenario("Metrics", ReporterFixture.SCENARIO_LINE), Result.PASSED);
+		reporter.eof();
+		reporter.close();
+
+		ReporterMetrics metrics = reporter.getMetrics();
+		assertThat(metrics, notNullValue());
+		for (ReporterMetrics.Event event : ReporterMetrics.Event.values()) {
+			if (event != ReporterMetrics.Event.EMBEDDING) {
+				assertThat(event.name(), metrics.getLatency(event).getCount(), equalTo(1L));
+			}
+		}
+		assertThat(metrics.getRequestCounts(), hasEntry("STORY", 1L));
+		assertThat(metrics.getRequestCounts(), hasEntry("STEP", 2L));
+		assertThat(metrics.getRequestCounts(), hasEntry("BEFORE_TEST", 1L));
+		assertThat(metrics.getRequestCounts(), hasEntry("AFTER_TEST", 1L));
+		assertThat(metrics.getRequestCounts(), hasEntry("LOG", 1L));
+
+		JsonNode json = new ObjectMapper().readTree(metricsFile);
+		assertThat(json.get("events").get("match").get("count").asLong(), equalTo(1L));
+		assertThat(json.get("requests").get("LOG").asLong(), equalTo(1L));
+	}
+}
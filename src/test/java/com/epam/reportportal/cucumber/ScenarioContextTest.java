@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.util.ReporterFixture;
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortal;
+import gherkin.formatter.model.Scenario;
+import gherkin.formatter.model.Step;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ScenarioContextTest {
+
+	private static Step step(int line) {
+		return ReporterFixture.step("step " + line, line);
+	}
+
+	@Test
+	public void verify_step_ring_buffer_keeps_order_while_growing() {
+		RunningContext.ScenarioContext context = new RunningContext.ScenarioContext();
+		List<Integer> taken = new ArrayList<>();
+		int line = 0;
+		for (int i = 0; i < 10; i++) {
+			context.addStep(step(line++));
+		}
+		for (int i = 0; i < 7; i++) {
+			taken.add(context.getNextStep().getLine());
+		}
+		// wraps around the buffer end and then grows
+		for (int i = 0; i < 30; i++) {
+			context.addStep(step(line++));
+		}
+		while (!context.noMoreSteps()) {
+			taken.add(context.getNextStep().getLine());
+		}
+
+		assertThat(taken, hasSize(40));
+		for (int i = 0; i < taken.size(); i++) {
+			assertThat(taken.get(i), equalTo(i));
+		}
+		assertThat(context.getNextStep(), nullValue());
+	}
+
+	@Test
+	public void verify_reset_brings_context_to_initial_state() {
+		RunningContext.ScenarioContext context = new RunningContext.ScenarioContext();
+		context.addStep(step(1));
+		context.setId(Maybe.just("id"));
+		context.setLine(3);
+		context.setFeatureUri("features/Reset.feature");
+		context.setInBackground(true);
+		context.setStepPrefix("BACKGROUND: ");
+		context.setOutlineIteration(2);
+		context.updateStatus(ItemStatus.FAILED);
+
+		context.reset();
+
+		assertThat(context.noMoreSteps(), equalTo(true));
+		assertThat(context.getId(), nullValue());
+		assertThat(context.getLine(), nullValue());
+		assertThat(context.getFeatureUri(), nullValue());
+		assertThat(context.isInBackground(), equalTo(false));
+		assertThat(context.getStepPrefix(), equalTo(""));
+		assertThat(context.getOutlineIterationLabel(), nullValue());
+		assertThat(context.getStatus(), equalTo(ItemStatus.PASSED));
+	}
+
+	@Test
+	public void verify_scenario_contexts_are_reused_in_the_same_thread() {
+		ReporterFixture fixture = new ReporterFixture();
+
+		ScenarioReporter reporter = new ScenarioReporter() {
+			@Override
+			protected ReportPortal buildReportPortal() {
+				return fixture.getReportPortal();
+			}
+		};
+
+		ReporterFixture.startFeature(reporter, "Reuse");
+		List<RunningContext.ScenarioContext> contexts = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Scenario scenario = ReporterFixture.scenario("Reuse " + i, 3 + i);
+			reporter.startOfScenarioLifeCycle(scenario);
+			reporter.scenario(scenario);
+			contexts.add(reporter.currentScenarioContext.get());
+			assertThat(reporter.currentScenarioContext.get().getLine(), equalTo(3 + i));
+			reporter.endOfScenarioLifeCycle(scenario);
+			assertThat(reporter.currentScenarioContext.get(), nullValue());
+		}
+
+		assertThat(contexts.get(1), sameInstance(contexts.get(0)));
+		assertThat(contexts.get(2), sameInstance(contexts.get(0)));
+	}
+}
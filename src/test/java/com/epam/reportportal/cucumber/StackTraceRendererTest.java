@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.util.StackTraceRenderer;
+import com.epam.reportportal.utils.formatting.ExceptionUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class StackTraceRendererTest {
+
+	private static Throwable deepError(int depth, Throwable cause) {
+		if (depth == 0) {
+			return new IllegalStateException("Deep error", cause);
+		}
+		return deepError(depth - 1, cause);
+	}
+
+	private static StackTraceElement frame(String className) {
+		return new StackTraceElement(className, "call", "Source.java", 1);
+	}
+
+	private static Throwable frameworkError() {
+		Throwable error = new AssertionError("Expected: true");
+		error.setStackTrace(new StackTraceElement[] { frame("com.example.Steps"), frame("sun.reflect.NativeMethodAccessorImpl"),
+				frame("sun.reflect.DelegatingMethodAccessorImpl"), frame("cucumber.runtime.Runtime"), frame("org.junit.Runner"),
+				frame("com.example.Main") });
+		return error;
+	}
+
+	public static Stream<Throwable> errors() {
+		Throwable suppressed = new IllegalArgumentException("Suppressed error");
+		Throwable withSuppressed = new RuntimeException("Error with suppressed", new IllegalArgumentException("Cause"));
+		withSuppressed.addSuppressed(suppressed);
+		return Stream.of(new RuntimeException("Simple error"),
+				deepError(50, null),
+				deepError(20, deepError(30, new NullPointerException())),
+				withSuppressed,
+				frameworkError()
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("errors")
+	public void verify_renderer_output_is_the_same_as_client_formatter(Throwable error) {
+		Throwable base = new Throwable();
+		assertThat(new StackTraceRenderer().format(error, base), equalTo(ExceptionUtils.getStackTrace(error, base)));
+	}
+
+	@Test
+	public void verify_package_frames_are_collapsed() {
+		StackTraceRenderer renderer = new StackTraceRenderer(Arrays.asList("sun.reflect", "cucumber.runtime", "org.junit"),
+				StackTraceRenderer.UNLIMITED,
+				StackTraceRenderer.UNLIMITED
+		);
+		assertThat(renderer.format(frameworkError(), new Throwable()),
+				equalTo("java.lang.AssertionError: Expected: true\n\tat com.example.Steps.call(Source.java:1)\n"
+						+ "...\tat com.example.Main.call(Source.java:1)\n")
+		);
+	}
+
+	@Test
+	public void verify_frame_number_is_capped_per_cause() {
+		Throwable error = deepError(20, deepError(30, null));
+		String trace = new StackTraceRenderer(Collections.emptyList(), 3, StackTraceRenderer.UNLIMITED).format(error, new Throwable());
+		String[] lines = trace.split("\n");
+
+		assertThat(lines[0], startsWith("java.lang.IllegalStateException: Deep error"));
+		assertThat(lines[1], startsWith("\tat "));
+		assertThat(lines[3], startsWith("\tat "));
+		assertThat(lines[4], startsWith("...Caused by: java.lang.IllegalStateException: Deep error"));
+		assertThat(lines[5], startsWith("\tat "));
+		assertThat(lines[7], startsWith("\tat "));
+		assertThat(lines, arrayWithSize(9));
+		assertThat(lines[8], matchesPattern("\\.\\.\\.\\t\\.\\.\\. \\d+ more"));
+	}
+
+	@Test
+	public void verify_trace_length_is_capped() {
+		Throwable error = deepError(200, null);
+		String trace = new StackTraceRenderer(Collections.emptyList(), StackTraceRenderer.UNLIMITED, 1000).format(error, new Throwable());
+		assertThat(trace.length(), lessThanOrEqualTo(1000 + 4));
+		assertThat(trace, endsWith("...\n"));
+		assertThat(ExceptionUtils.getStackTrace(error, new Throwable()), startsWith(trace.substring(0, trace.length() - 4)));
+	}
+
+	@Test
+	public void verify_same_error_is_rendered_once() {
+		StackTraceRenderer renderer = new StackTraceRenderer();
+		Throwable error = deepError(10, null);
+		String first = renderer.render(error);
+		assertThat(renderer.render(error), sameInstance(first));
+
+		String other = renderer.render(deepError(10, null));
+		assertThat(other, not(sameInstance(first)));
+		assertThat(renderer.render(error), not(sameInstance(first)));
+		assertThat(renderer.render(error), equalTo(first));
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.annotations.TestCaseId;
+import com.epam.reportportal.annotations.attribute.Attribute;
+import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.cucumber.util.StepDefinitionMetadata;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import gherkin.formatter.model.Match;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class StepDefinitionMetadataTest {
+
+	@SuppressWarnings("unused")
+	private static class StepDefinition {
+		private final Method method;
+		private int locationCalls;
+
+		private StepDefinition(Method stepMethod) {
+			method = stepMethod;
+		}
+
+		private String getLocation(boolean detail) {
+			locationCalls++;
+			return method.getDeclaringClass().getName() + "." + method.getName() + "()";
+		}
+	}
+
+	@SuppressWarnings("unused")
+	private static class StepDefinitionMatch extends Match {
+		private static final long serialVersionUID = 1L;
+
+		private final transient Object stepDefinition;
+
+		private StepDefinitionMatch(Object definition) {
+			super(Collections.emptyList(), "location");
+			stepDefinition = definition;
+		}
+	}
+
+	@TestCaseId("my_test_case")
+	@Attributes(attributes = @Attribute(key = "key", value = "value"))
+	public void annotatedStep() {
+	}
+
+	@Test
+	public void verify_metadata_is_resolved_once_per_step_method() throws NoSuchMethodException {
+		Method method = getClass().getMethod("annotatedStep");
+		StepDefinition firstRuntimeDefinition = new StepDefinition(method);
+		StepDefinition secondRuntimeDefinition = new StepDefinition(method);
+
+		StepDefinitionMetadata metadata = StepDefinitionMetadata.of(new StepDefinitionMatch(firstRuntimeDefinition));
+		assertThat(metadata, notNullValue());
+		assertThat(StepDefinitionMetadata.of(new StepDefinitionMatch(firstRuntimeDefinition)), sameInstance(metadata));
+		assertThat(StepDefinitionMetadata.of(new StepDefinitionMatch(secondRuntimeDefinition)), sameInstance(metadata));
+		assertThat(firstRuntimeDefinition.locationCalls, equalTo(1));
+		assertThat(secondRuntimeDefinition.locationCalls, equalTo(0));
+
+		assertThat(metadata.getCodeRef(), equalTo(getClass().getName() + ".annotatedStep"));
+		assertThat(metadata.getMethod(), equalTo(method));
+		assertThat(metadata.getTestCaseId(), notNullValue());
+		assertThat(metadata.getTestCaseId().value(), equalTo("my_test_case"));
+	}
+
+	@Test
+	public void verify_attributes_are_copied_on_each_call() throws NoSuchMethodException {
+		StepDefinitionMetadata metadata = StepDefinitionMetadata.of(new StepDefinitionMatch(new StepDefinition(getClass().getMethod(
+				"annotatedStep"))));
+		assertThat(metadata, notNullValue());
+
+		Set<ItemAttributesRQ> attributes = metadata.getAttributes();
+		assertThat(attributes, hasSize(1));
+		ItemAttributesRQ attribute = attributes.iterator().next();
+		assertThat(attribute.getKey(), equalTo("key"));
+		assertThat(attribute.getValue(), equalTo("value"));
+
+		attribute.setValue("changed");
+		attributes.clear();
+		Set<ItemAttributesRQ> newAttributes = metadata.getAttributes();
+		assertThat(newAttributes, hasSize(1));
+		assertThat(newAttributes.iterator().next().getValue(), equalTo("value"));
+	}
+
+	@SuppressWarnings("unused")
+	private static class ScriptStepDefinition {
+		private String getLocation(boolean detail) {
+			return "features/steps.js:5";
+		}
+	}
+
+	@Test
+	public void verify_metadata_of_step_definition_without_method_is_bound_to_the_instance() {
+		ScriptStepDefinition definition = new ScriptStepDefinition();
+		StepDefinitionMetadata metadata = StepDefinitionMetadata.of(new StepDefinitionMatch(definition));
+		assertThat(metadata, notNullValue());
+		assertThat(metadata.getMethod(), nullValue());
+		assertThat(metadata.getCodeRef(), equalTo("features/steps.js:5"));
+		assertThat(StepDefinitionMetadata.of(new StepDefinitionMatch(definition)), sameInstance(metadata));
+		assertThat(StepDefinitionMetadata.of(new StepDefinitionMatch(new ScriptStepDefinition())), not(sameInstance(metadata)));
+	}
+
+	@Test
+	public void verify_no_metadata_for_match_without_step_definition() {
+		assertThat(StepDefinitionMetadata.of(Match.UNDEFINED), nullValue());
+		assertThat(StepDefinitionMetadata.of(new StepDefinitionMatch(null)), nullValue());
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.feature.ReportsTestWithParameters;
+import com.epam.reportportal.cucumber.util.StepParameters;
+import com.epam.reportportal.utils.ParameterUtils;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.text.StringEscapeUtils;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class StepParametersTest {
+
+	private static final String STEPS = ReportsTestWithParameters.class.getCanonicalName();
+
+	public static Stream<Arguments> steps() {
+		return Stream.of(Arguments.of(STEPS + ".iHaveAnIntInlineParameter", new String[] { "42" }),
+				Arguments.of(STEPS + ".iHaveANamedStrInlineParameter", new String[] { "string" }),
+				Arguments.of(STEPS + ".iHaveANamedStrInlineParameter", new String[] { null }),
+				Arguments.of(STEPS + ".infoLevel", new String[] { "1", "2" }),
+				Arguments.of(STEPS + ".unknownMethod", new String[] { "1" }),
+				Arguments.of("com.example.UnknownSteps.step", new String[] { "value" }),
+				Arguments.of(null, new String[] { "value", "docstring" })
+		);
+	}
+
+	private static List<Pair<String, String>> toPairs(List<ParameterResource> parameters) {
+		return parameters.stream().map(p -> Pair.of(p.getKey(), p.getValue())).collect(Collectors.toList());
+	}
+
+	@ParameterizedTest
+	@MethodSource("steps")
+	public void verify_parameters_are_the_same_as_client_parameters(String codeRef, String[] values) {
+		String[] names = new String[values.length];
+		List<Pair<String, String>> clientParameters = new ArrayList<>();
+		for (int i = 0; i < values.length; i++) {
+			names[i] = StepParameters.argumentName(i);
+			clientParameters.add(Pair.of(names[i], values[i]));
+		}
+		List<ParameterResource> expected = ParameterUtils.getParameters(codeRef, clientParameters);
+
+		assertThat(toPairs(StepParameters.getParameters(codeRef, names, values)), equalTo(toPairs(expected)));
+		// the second call goes through the cache
+		assertThat(toPairs(StepParameters.getParameters(codeRef, names, values)), equalTo(toPairs(expected)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "", "plain docstring\nwith new lines", "<b>bold</b>", "a & b", "\"quoted\"", "'single'", "café",
+			" non-breaking", "αβγ", "emoji 😀" })
+	public void verify_html_escaping_is_the_same_as_commons_text(String value) {
+		String escaped = StepParameters.escapeHtml(value);
+		assertThat(escaped, equalTo(StringEscapeUtils.escapeHtml4(value)));
+		if (value.chars().allMatch(c -> c < 0x80 && "<>&\"".indexOf(c) < 0)) {
+			assertThat(escaped, sameInstance(value));
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 0, 1, 15, 16, 100 })
+	public void verify_argument_names(int index) {
+		assertThat(StepParameters.argumentName(index), equalTo("arg" + index));
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.integration.TestScenarioReporterWithStepSummary;
+import com.epam.reportportal.cucumber.integration.util.ReporterFixture;
+import com.epam.reportportal.cucumber.integration.util.TestUtils;
+import com.epam.reportportal.cucumber.util.ReporterMetrics;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import cucumber.api.CucumberOptions;
+import cucumber.api.testng.AbstractTestNGCucumberTests;
+import gherkin.formatter.model.Result;
+import gherkin.formatter.model.Scenario;
+import io.reactivex.Maybe;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static com.epam.reportportal.cucumber.integration.util.TestUtils.filterLogs;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StepSummaryTest {
+
+	private static final Maybe<String> SCENARIO_ID = Maybe.just("scenario");
+
+	private final ReporterFixture fixture = new ReporterFixture();
+	private final Launch launch = fixture.getLaunch();
+	private final List<StartTestItemRQ> stepStarts = new ArrayList<>();
+	private final List<Maybe<String>> stepIds = new ArrayList<>();
+
+	private long time = 1000;
+
+	private final ScenarioReporter reporter = new ScenarioReporter() {
+		@Override
+		protected ReportPortal buildReportPortal() {
+			return fixture.getReportPortal();
+		}
+
+		@Override
+		protected boolean isStepSummaryEnabled() {
+			return true;
+		}
+
+		@Override
+		protected ReporterMetrics buildReporterMetrics() {
+			return new ReporterMetrics();
+		}
+
+		@Override
+		protected long getCurrentTimeMillis() {
+			return time++;
+		}
+
+		@Override
+		protected Maybe<String> startStep(Maybe<String> scenarioId, StartTestItemRQ rq) {
+			Maybe<String> stepId = Maybe.just("step-" + stepStarts.size());
+			stepStarts.add(rq);
+			stepIds.add(stepId);
+			return stepId;
+		}
+	};
+
+	@BeforeEach
+	public void setupLaunch() {
+		when(launch.startTestItem(any(), any())).thenReturn(SCENARIO_ID);
+	}
+
+	private void runScenario(String... stepResults) {
+		ReporterFixture.startFeature(reporter, "Summary");
+		ReporterFixture.runScenario(reporter, ReporterFixture.scenario("Summary", ReporterFixture.SCENARIO_LINE), stepResults);
+	}
+
+	private List<String> startedTypes() {
+		ArgumentCaptor<StartTestItemRQ> captor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(launch, atLeastOnce()).startTestItem(any(), captor.capture());
+		return captor.getAllValues().stream().map(StartTestItemRQ::getType).collect(Collectors.toList());
+	}
+
+	@SuppressWarnings("unchecked")
+	private int sentLogNumber() {
+		ArgumentCaptor<Function<String, SaveLogRQ>> captor = ArgumentCaptor.forClass(Function.class);
+		verify(launch, atLeast(0)).log(any(Maybe.class), captor.capture());
+		return captor.getAllValues().size();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> logMessages(Maybe<String> itemId) {
+		ArgumentCaptor<Function<String, SaveLogRQ>> captor = ArgumentCaptor.forClass(Function.class);
+		verify(launch, atLeast(0)).log(same(itemId), captor.capture());
+		return captor.getAllValues().stream().map(f -> f.apply("id").getMessage()).collect(Collectors.toList());
+	}
+
+	@Test
+	public void verify_passed_scenario_is_reported_with_step_summary() {
+		runScenario(Result.PASSED, Result.PASSED);
+
+		assertThat(stepStarts, empty());
+		assertThat(startedTypes(), not(hasItems("BEFORE_TEST", "AFTER_TEST")));
+		List<String> messages = logMessages(SCENARIO_ID);
+		assertThat(messages, hasSize(3));
+		assertThat(messages.get(0), startsWith("Passed steps:\nGiven step 0 ("));
+		assertThat(messages.get(0), containsString("\nGiven step 1 ("));
+		assertThat(messages.subList(1, 3), contains("output 0", "output 1"));
+
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		// scenario reporter's feature and its scenario share the same mocked ID
+		verify(launch, atLeastOnce()).finishTestItem(same(SCENARIO_ID), finishCaptor.capture());
+		assertThat(finishCaptor.getAllValues().stream().map(FinishTestItemRQ::getStatus).collect(Collectors.toList()),
+				everyItem(equalTo("PASSED"))
+		);
+	}
+
+	@Test
+	public void verify_pending_items_and_logs_are_counted_once_when_sent() {
+		runScenario(Result.PASSED, Result.PASSED);
+		assertThat(reporter.getMetrics().getRequestCounts(), not(hasKey("BEFORE_TEST")));
+		assertThat(reporter.getMetrics().getRequestCounts(), not(hasKey("AFTER_TEST")));
+		// the summary and two step outputs
+		assertThat(reporter.getMetrics().getRequestCounts(), hasEntry("LOG", 3L));
+
+		ReporterFixture.runScenario(reporter, ReporterFixture.scenario("Failed", ReporterFixture.SCENARIO_LINE + 10), Result.FAILED);
+		assertThat(reporter.getMetrics().getRequestCounts(), hasEntry("BEFORE_TEST", 1L));
+		assertThat(reporter.getMetrics().getRequestCounts(), hasEntry("AFTER_TEST", 1L));
+		// the step output and the error, which are logged to the failed step
+		assertThat(reporter.getMetrics().getRequestCounts(), hasEntry("LOG", (long) sentLogNumber()));
+		assertThat(sentLogNumber(), greaterThan(4));
+	}
+
+	@Test
+	public void verify_failed_step_reports_step_tree_with_original_times() {
+		runScenario(Result.PASSED, Result.FAILED, "skipped");
+
+		assertThat(stepStarts.stream().map(StartTestItemRQ::getName).collect(Collectors.toList()),
+				contains("Given step 0", "Given step 1", "Given step 2")
+		);
+		assertThat(stepStarts.get(0).getStartTime().getTime(), lessThan(stepStarts.get(1).getStartTime().getTime()));
+
+		ArgumentCaptor<FinishTestItemRQ> firstFinish = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(launch).finishTestItem(same(stepIds.get(0)), firstFinish.capture());
+		assertThat(firstFinish.getValue().getStatus(), equalTo("PASSED"));
+		assertThat(firstFinish.getValue().getEndTime().getTime(), lessThan(stepStarts.get(1).getStartTime().getTime()));
+
+		ArgumentCaptor<FinishTestItemRQ> failedFinish = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(launch).finishTestItem(same(stepIds.get(1)), failedFinish.capture());
+		assertThat(failedFinish.getValue().getStatus(), equalTo("FAILED"));
+		verify(launch).finishTestItem(same(stepIds.get(2)), any());
+
+		assertThat(logMessages(stepIds.get(0)), contains("output 0"));
+		assertThat(logMessages(stepIds.get(1)), hasItem("output 1"));
+		assertThat(logMessages(SCENARIO_ID), not(hasItem(startsWith("Passed steps:"))));
+		// the before hooks are reported with the steps, the after hooks are reported as usual
+		assertThat(startedTypes(), hasItems("BEFORE_TEST", "AFTER_TEST"));
+	}
+
+	@Test
+	public void verify_failed_hook_reports_step_tree() {
+		Scenario scenario = ReporterFixture.scenario("Summary", ReporterFixture.SCENARIO_LINE);
+		ReporterFixture.startFeature(reporter, "Summary");
+		reporter.startOfScenarioLifeCycle(scenario);
+		reporter.before(ReporterFixture.match(0), ReporterFixture.result(Result.FAILED));
+		reporter.scenario(scenario);
+		reporter.endOfScenarioLifeCycle(scenario);
+
+		assertThat(startedTypes(), hasItem("BEFORE_TEST"));
+		assertThat(logMessages(SCENARIO_ID), hasItem(startsWith("Before hook: Steps.step0()")));
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(launch, atLeastOnce()).finishTestItem(same(SCENARIO_ID), finishCaptor.capture());
+		assertThat(finishCaptor.getAllValues().stream().map(FinishTestItemRQ::getStatus).collect(Collectors.toList()), hasItem("FAILED"));
+	}
+
+	@CucumberOptions(features = "src/test/resources/features/DummyScenario.feature", glue = {
+			"com.epam.reportportal.cucumber.integration.hooks" }, plugin = { "pretty",
+			"com.epam.reportportal.cucumber.integration.TestScenarioReporterWithStepSummary" })
+	public static class PassedScenarioSummaryReporterTest extends AbstractTestNGCucumberTests {
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_hooks_of_passed_scenario_are_folded_into_scenario_item() {
+		String suiteId = CommonUtils.namedId("suite_");
+		String testId = CommonUtils.namedId("test_");
+		String scenarioId = CommonUtils.namedId("scenario_");
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		TestUtils.mockLaunch(client, CommonUtils.namedId("launch_"), suiteId, testId, scenarioId);
+		TestUtils.mockLogging(client);
+		TestScenarioReporterWithStepSummary.RP.set(ReportPortal.create(client, TestUtils.standardParameters(), executorService));
+		try {
+			TestUtils.runTests(PassedScenarioSummaryReporterTest.class);
+		} finally {
+			executorService.shutdown();
+		}
+
+		verify(client, never()).startTestItem(same(scenarioId), any());
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeastOnce()).log(logCaptor.capture());
+		List<SaveLogRQ> hookLogs = filterLogs(logCaptor,
+				l -> l.getMessage() != null && (l.getMessage().startsWith("Before hook:") || l.getMessage().startsWith("After hook:"))
+		);
+		assertThat(hookLogs, hasSize(2));
+		List<SaveLogRQ> summaryLogs = filterLogs(logCaptor, l -> l.getMessage() != null && l.getMessage().startsWith("Passed steps:"));
+		assertThat(summaryLogs, hasSize(1));
+		assertThat(summaryLogs.get(0).getMessage(), not(containsString("hooks")));
+		assertThat(Stream.concat(hookLogs.stream(), summaryLogs.stream()).map(SaveLogRQ::getItemUuid).collect(Collectors.toList()),
+				everyItem(equalTo(scenarioId))
+		);
+	}
+}
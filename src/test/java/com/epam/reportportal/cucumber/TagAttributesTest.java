@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.util.TagAttributes;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import gherkin.formatter.model.Tag;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TagAttributesTest {
+
+	private static List<Tag> tags(String... names) {
+		return Arrays.stream(names).map(n -> new Tag(n, 1)).collect(Collectors.toList());
+	}
+
+	@ParameterizedTest
+	@CsvSource(value = { "@smoke,,@smoke", "@team:payments,team,payments", "@issue:JIRA-1:2,issue,JIRA-1:2", "@team:,,@team:",
+			"@:value,,@:value", "plain,,plain", "key:value,key,value" })
+	public void verify_tag_parsing(String tag, String key, String value) {
+		ItemAttributesRQ attribute = TagAttributes.parse(tag);
+		assertThat(attribute.getKey(), equalTo(key));
+		assertThat(attribute.getValue(), equalTo(value));
+		assertThat(attribute.isSystem(), equalTo(false));
+	}
+
+	@Test
+	public void verify_same_tags_share_attribute_set() {
+		Set<ItemAttributesRQ> first = TagAttributes.of(tags("@regression", "@team:payments"));
+		Set<ItemAttributesRQ> second = TagAttributes.of(tags("@regression", "@team:payments"));
+
+		assertThat(second, sameInstance(first));
+		assertThat(first.stream().map(a -> Pair.of(a.getKey(), a.getValue())).collect(Collectors.toSet()),
+				containsInAnyOrder(Pair.of(null, "@regression"), Pair.of("team", "payments"))
+		);
+		assertThrows(UnsupportedOperationException.class, () -> first.add(new ItemAttributesRQ("key", "value")));
+	}
+
+	@Test
+	public void verify_tags_are_shared_across_attribute_sets() {
+		Set<ItemAttributesRQ> first = TagAttributes.of(tags("@shared", "@first"));
+		Set<ItemAttributesRQ> second = TagAttributes.of(tags("@shared", "@second"));
+
+		ItemAttributesRQ shared = first.stream().filter(a -> "@shared".equals(a.getValue())).findAny().orElseThrow(AssertionError::new);
+		assertThat(second, hasItem(sameInstance(shared)));
+	}
+
+	@Test
+	public void verify_reporter_shares_tag_attributes_between_items() {
+		ScenarioReporter reporter = new ScenarioReporter();
+		Set<ItemAttributesRQ> first = reporter.extractAttributes(tags("@reporter", "@team:reporter"));
+		Set<ItemAttributesRQ> second = reporter.extractAttributes(tags("@reporter", "@team:reporter"));
+
+		assertThat(second, sameInstance(first));
+		assertThrows(UnsupportedOperationException.class, () -> first.add(new ItemAttributesRQ("key", "value")));
+	}
+
+	@Test
+	public void verify_no_tags() {
+		assertThat(TagAttributes.of(Collections.emptyList()), empty());
+	}
+}
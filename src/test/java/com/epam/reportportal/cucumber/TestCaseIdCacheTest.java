@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber;
+
+import com.epam.reportportal.cucumber.util.TestCaseIdCache;
+import com.epam.reportportal.service.item.TestCaseIdEntry;
+import com.epam.reportportal.utils.TestCaseIdUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class TestCaseIdCacheTest {
+
+	private static final String CODE_REF = "features/Outline.feature/[SCENARIO:Outline]";
+
+	private final AtomicInteger calculations = new AtomicInteger();
+
+	private Supplier<TestCaseIdEntry> calculator(String codeRef, List<String> arguments) {
+		return () -> {
+			calculations.incrementAndGet();
+			return TestCaseIdUtils.getTestCaseId(codeRef, arguments);
+		};
+	}
+
+	private TestCaseIdEntry get(TestCaseIdCache cache, String codeRef, List<String> arguments) {
+		return cache.get(null, codeRef, arguments, calculator(codeRef, arguments));
+	}
+
+	@Test
+	public void verify_same_arguments_are_calculated_once() {
+		TestCaseIdCache cache = new TestCaseIdCache();
+		TestCaseIdEntry first = get(cache, CODE_REF, Arrays.asList("1", "one"));
+		TestCaseIdEntry second = get(cache, CODE_REF, Arrays.asList("1", "one"));
+		TestCaseIdEntry other = get(cache, CODE_REF, Arrays.asList("2", "two"));
+
+		assertThat(second, sameInstance(first));
+		assertThat(first.getId(), equalTo(CODE_REF + "[1,one]"));
+		assertThat(other.getId(), equalTo(CODE_REF + "[2,two]"));
+		assertThat(calculations.get(), equalTo(2));
+		assertThat(cache.getHitCount(), equalTo(1L));
+		assertThat(cache.getMissCount(), equalTo(2L));
+	}
+
+	@Test
+	public void verify_missing_id_is_cached() {
+		TestCaseIdCache cache = new TestCaseIdCache();
+		assertThat(get(cache, null, null), nullValue());
+		assertThat(get(cache, null, Collections.emptyList()), nullValue());
+		assertThat(get(cache, null, null), nullValue());
+
+		assertThat(calculations.get(), equalTo(2));
+		assertThat(cache.getHitCount(), equalTo(1L));
+	}
+
+	@Test
+	public void verify_least_recently_used_id_is_evicted() {
+		TestCaseIdCache cache = new TestCaseIdCache(2);
+		get(cache, CODE_REF, Collections.singletonList("1"));
+		get(cache, CODE_REF, Collections.singletonList("2"));
+		get(cache, CODE_REF, Collections.singletonList("1"));
+		get(cache, CODE_REF, Collections.singletonList("3"));
+		assertThat(cache.size(), equalTo(2));
+		assertThat(calculations.get(), equalTo(3));
+
+		get(cache, CODE_REF, Collections.singletonList("1"));
+		assertThat(calculations.get(), equalTo(3));
+		get(cache, CODE_REF, Collections.singletonList("2"));
+		assertThat(calculations.get(), equalTo(4));
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.integration;
+
+import com.epam.reportportal.cucumber.ScenarioReporter;
+import com.epam.reportportal.cucumber.util.LogPipeline;
+import com.epam.reportportal.service.ReportPortal;
+
+public class TestScenarioReporterWithLogPipeline extends ScenarioReporter {
+	public static final ThreadLocal<ReportPortal> RP = new ThreadLocal<>();
+	public static final ThreadLocal<LogPipeline> PIPELINE = new ThreadLocal<>();
+
+	@Override
+	protected ReportPortal buildReportPortal() {
+		return RP.get();
+	}
+
+	@Override
+	protected LogPipeline buildLogPipeline() {
+		LogPipeline pipeline = new LogPipeline(this::emitLogs);
+		PIPELINE.set(pipeline);
+		return pipeline;
+	}
+}
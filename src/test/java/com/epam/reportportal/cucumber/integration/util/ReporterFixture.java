@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.cucumber.integration.util;
+
+import com.epam.reportportal.cucumber.AbstractReporter;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.util.test.CommonUtils;
+import gherkin.formatter.model.*;
+import io.reactivex.Maybe;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A mocked launch and Gherkin model builders for tests which call reporter formatter callbacks directly instead of
+ * running feature files with {@link TestUtils#runTests(Class[])}: to run callbacks on different threads, to hold item
+ * responses or to check reporter state between callbacks.
+ * <p>
+ * By default the launch returns {@link #getRootId()} for the root item and a new ID for every other item, tests can
+ * re-stub it.
+ */
+public class ReporterFixture {
+
+	public static final String FEATURE_URI = "features/Fixture.feature";
+	public static final int SCENARIO_LINE = 3;
+
+	private final ReportPortal reportPortal = mock(ReportPortal.class);
+	private final Launch launch = mock(Launch.class);
+	private final ListenerParameters parameters = new ListenerParameters();
+	private final Maybe<String> rootId = Maybe.just("root");
+
+	public ReporterFixture() {
+		parameters.setEnable(true);
+		when(reportPortal.getParameters()).thenReturn(parameters);
+		when(reportPortal.newLaunch(any())).thenReturn(launch);
+		when(launch.getParameters()).thenReturn(parameters);
+		when(launch.start()).thenReturn(Maybe.just("launch"));
+		when(launch.startTestItem(any())).thenReturn(rootId);
+		when(launch.startTestItem(any(), any())).thenAnswer(invocation -> Maybe.just(CommonUtils.namedId("item_")));
+	}
+
+	public ReportPortal getReportPortal() {
+		return reportPortal;
+	}
+
+	public Launch getLaunch() {
+		return launch;
+	}
+
+	public ListenerParameters getParameters() {
+		return parameters;
+	}
+
+	public Maybe<String> getRootId() {
+		return rootId;
+	}
+
+	public static Feature feature(String name) {
+		return new Feature(Collections.emptyList(), Collections.emptyList(), "Feature", name, "", 1, name.toLowerCase());
+	}
+
+	public static Scenario scenario(String name, int line) {
+		return new Scenario(Collections.emptyList(), Collections.emptyList(), "Scenario", name, "", line, name.toLowerCase() + ";" + line);
+	}
+
+	public static Step step(String name, int line) {
+		return new Step(Collections.emptyList(), "Given ", name, line, null, null);
+	}
+
+	public static Match match(int stepNumber) {
+		return new Match(Collections.emptyList(), "Steps.step" + stepNumber + "()");
+	}
+
+	public static Result result(String status) {
+		return new Result(status, 1L, Result.FAILED.equals(status) ? new AssertionError("Step failed") : null, null);
+	}
+
+	/**
+	 * Start a feature with the given name at {@link #FEATURE_URI}
+	 *
+	 * @param reporter reporter under test
+	 * @param name     feature name
+	 */
+	public static void startFeature(AbstractReporter reporter, String name) {
+		reporter.uri(FEATURE_URI);
+		reporter.feature(feature(name));
+	}
+
+	/**
+	 * Start a scenario and queue its steps, one step per given result status
+	 *
+	 * @param reporter    reporter under test
+	 * @param scenario    scenario to start
+	 * @param stepResults statuses of the scenario steps
+	 */
+	public static void startScenario(AbstractReporter reporter, Scenario scenario, String... stepResults) {
+		reporter.startOfScenarioLifeCycle(scenario);
+		reporter.scenario(scenario);
+		for (int i = 0; i < stepResults.length; i++) {
+			reporter.step(step("step " + i, scenario.getLine() + 1 + i));
+		}
+	}
+
+	/**
+	 * Run a scenario with one step per given result status, each step writes one log
+	 *
+	 * @param reporter    reporter under test
+	 * @param scenario    scenario to run
+	 * @param stepResults statuses of the scenario steps
+	 */
+	public static void runScenario(AbstractReporter reporter, Scenario scenario, String... stepResults) {
+		startScenario(reporter, scenario, stepResults);
+		for (int i = 0; i < stepResults.length; i++) {
+			reporter.match(match(i));
+			reporter.write("output " + i);
+			reporter.result(result(stepResults[i]));
+		}
+		reporter.endOfScenarioLifeCycle(scenario);
+	}
+}